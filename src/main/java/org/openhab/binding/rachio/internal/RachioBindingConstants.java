@@ -51,6 +51,7 @@ public class RachioBindingConstants {
     public static final String CHANNEL_RATE_LIMIT_PERCENT = "rateLimitPercent";
     public static final String CHANNEL_RATE_LIMIT_STATUS = "rateLimitStatus";
     public static final String CHANNEL_RATE_LIMIT_RESET = "rateLimitReset";
+    public static final String CHANNEL_CIRCUIT_BREAKER_STATE = "circuitBreakerState";
 
     // Device channels - COMPLETE SET (referenced in RachioDeviceHandler.java)
     public static final String CHANNEL_STATUS = "status";
@@ -139,6 +140,8 @@ public class RachioBindingConstants {
             CHANNEL_RATE_LIMIT_STATUS);
     public static final ChannelTypeUID CHANNEL_TYPE_RATE_LIMIT_RESET = new ChannelTypeUID(BINDING_ID,
             CHANNEL_RATE_LIMIT_RESET);
+    public static final ChannelTypeUID CHANNEL_TYPE_CIRCUIT_BREAKER_STATE = new ChannelTypeUID(BINDING_ID,
+            CHANNEL_CIRCUIT_BREAKER_STATE);
     public static final ChannelTypeUID CHANNEL_TYPE_DEVICE_STATUS = new ChannelTypeUID(BINDING_ID,
             CHANNEL_DEVICE_STATUS);
     public static final ChannelTypeUID CHANNEL_TYPE_DEVICE_PAUSED = new ChannelTypeUID(BINDING_ID,
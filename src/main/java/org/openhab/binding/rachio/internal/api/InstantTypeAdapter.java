@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAccessor;
 
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
@@ -22,11 +21,8 @@ public class InstantTypeAdapter extends TypeAdapter<Instant> {
     // Rachio API uses ISO 8601 timestamps (with milliseconds)
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
-    // Alternative format for timestamps without timezone
-    private static final DateTimeFormatter LOCAL_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-
-    // For epoch seconds (sometimes used in webhooks)
-    private static final DateTimeFormatter EPOCH_FORMATTER = null; // Special handling
+    // Single pass parser for ISO 8601, ISO 8601 without offset, epoch seconds and epoch milliseconds
+    private final TimestampParser parser = new TimestampParser();
 
     /**
      * Write Instant to JSON
@@ -53,14 +49,17 @@ public class InstantTypeAdapter extends TypeAdapter<Instant> {
             return null;
         }
 
-        try {
-            String jsonValue = in.nextString();
-            return parseInstant(jsonValue);
-        } catch (DateTimeParseException e) {
-            throw new JsonParseException("Failed to parse timestamp: " + in.nextString(), e);
-        } catch (NumberFormatException e) {
-            throw new JsonParseException("Failed to parse numeric timestamp: " + in.nextString(), e);
+        // Numbers are returned as their literal text, so epoch values take the same path as strings
+        String jsonValue = in.nextString();
+        if (jsonValue.isBlank()) {
+            return null;
         }
+        Instant instant = parser.parse(jsonValue);
+        if (instant == null) {
+            throw new JsonParseException("Failed to parse timestamp: " + jsonValue
+                    + " (supported: ISO 8601, ISO 8601 without offset, epoch seconds, epoch milliseconds)");
+        }
+        return instant;
     }
 
     /**
@@ -71,58 +70,19 @@ public class InstantTypeAdapter extends TypeAdapter<Instant> {
             return null;
         }
 
-        String trimmed = value.trim();
-
-        // Try ISO 8601 format first (most common)
-        try {
-            return Instant.from(ISO_FORMATTER.parse(trimmed));
-        } catch (DateTimeParseException e1) {
-            // Try ISO format without timezone
-            try {
-                TemporalAccessor accessor = ISO_FORMATTER.parse(trimmed + "Z");
-                return Instant.from(accessor);
-            } catch (DateTimeParseException e2) {
-                // Try as epoch seconds (numeric)
-                try {
-                    long epochSeconds = Long.parseLong(trimmed);
-                    return Instant.ofEpochSecond(epochSeconds);
-                } catch (NumberFormatException e3) {
-                    // Try as epoch milliseconds
-                    try {
-                        long epochMillis = Long.parseLong(trimmed);
-                        // If value is large, assume milliseconds
-                        if (epochMillis > 1000000000000L) { // > year 2001 in ms
-                            return Instant.ofEpochMilli(epochMillis);
-                        } else {
-                            // Otherwise assume seconds
-                            return Instant.ofEpochSecond(epochMillis);
-                        }
-                    } catch (NumberFormatException e4) {
-                        // Try local date time format
-                        try {
-                            TemporalAccessor accessor = LOCAL_FORMATTER.parse(trimmed);
-                            return Instant.from(accessor);
-                        } catch (DateTimeParseException e5) {
-                            throw new DateTimeParseException(
-                                    "Cannot parse timestamp: " + trimmed
-                                            + " (tried ISO 8601, epoch seconds, epoch milliseconds, local datetime)",
-                                    trimmed, 0);
-                        }
-                    }
-                }
-            }
+        Instant instant = parser.parse(value);
+        if (instant == null) {
+            throw new DateTimeParseException("Cannot parse timestamp: " + value.trim()
+                    + " (tried ISO 8601, epoch seconds, epoch milliseconds, local datetime)", value, 0);
         }
+        return instant;
     }
 
     /**
      * Parse Instant with lenient error handling (returns null on failure)
      */
     public Instant parseLenient(String value) {
-        try {
-            return parseInstant(value);
-        } catch (Exception e) {
-            return null;
-        }
+        return parser.parse(value);
     }
 
     /**
@@ -159,12 +119,7 @@ public class InstantTypeAdapter extends TypeAdapter<Instant> {
      * Check if string is a valid timestamp
      */
     public boolean isValidTimestamp(String value) {
-        try {
-            parseInstant(value);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parser.parse(value) != null;
     }
 
     /**
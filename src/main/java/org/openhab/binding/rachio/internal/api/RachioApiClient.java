@@ -1,13 +1,18 @@
 package org.openhab.binding.rachio.internal.api;
 
+import java.io.EOFException;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.RachioBindingConstants;
+import org.openhab.binding.rachio.internal.api.RachioHttp.ResponseDecoder;
 import org.openhab.binding.rachio.internal.api.dto.CustomCrop;
 import org.openhab.binding.rachio.internal.api.dto.CustomNozzle;
 import org.openhab.binding.rachio.internal.api.dto.CustomShade;
@@ -22,11 +27,15 @@ import org.openhab.binding.rachio.internal.api.dto.RachioSavings;
 import org.openhab.binding.rachio.internal.api.dto.RachioSchedule;
 import org.openhab.binding.rachio.internal.api.dto.RachioUsage;
 import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneRun;
 import org.openhab.binding.rachio.internal.api.dto.ZoneRunStatus;
+import org.openhab.binding.rachio.internal.config.RachioConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Client for the Rachio API
@@ -36,7 +45,21 @@ import com.google.gson.reflect.TypeToken;
 @NonNullByDefault
 public class RachioApiClient {
 
-    private final Gson gson = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantTypeAdapter()).create();
+    private final Logger logger = LoggerFactory.getLogger(RachioApiClient.class);
+
+    private final Gson gson = RachioGson.get();
+
+    private RachioHttp http = new RachioHttp("");
+
+    // ===== GET requests currently in flight, keyed by endpoint =====
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    // ===== Response cache, configured from RachioConfiguration =====
+    private static final int STATUS_CACHE_TTL = 30; // seconds, upper bound for device and zone reads
+    private static final int CATALOG_CACHE_TTL = 3600; // seconds, lower bound for the custom catalogs
+    private @Nullable RachioResponseCache cache = new RachioResponseCache(1000);
+    private int defaultCacheTtl = 300;
+    private final Map<String, String> zoneDevices = new ConcurrentHashMap<>();
 
     public RachioApiClient() {
     }
@@ -48,8 +71,272 @@ public class RachioApiClient {
      * @param apiKey The Rachio API key
      */
     public void initialize(String apiKey) {
-        // Set the API key in the static RachioHttp class
-        RachioHttp.setApiKey(apiKey);
+        this.http = new RachioHttp(apiKey);
+    }
+
+    /**
+     * Apply the binding configuration to the HTTP client and the response cache.
+     * Caching is on by default with the defaults of {@link RachioConfiguration}.
+     *
+     * @param config binding configuration
+     */
+    public void configure(RachioConfiguration config) {
+        http.configure(config);
+        defaultCacheTtl = config.getEffectiveCacheTTL();
+        if (config.isCachingEnabled()) {
+            Integer maxSize = config.maxCacheSize;
+            cache = new RachioResponseCache(maxSize != null ? maxSize : 1000);
+        } else {
+            cache = null;
+        }
+        logger.debug("Response cache {} (TTL {}s)", config.isCachingEnabled() ? "enabled" : "disabled",
+                defaultCacheTtl);
+    }
+
+    /**
+     * Drop all cached responses
+     */
+    public void clearCache() {
+        RachioResponseCache localCache = cache;
+        if (localCache != null) {
+            localCache.clear();
+        }
+    }
+
+    /**
+     * Get the HTTP client of this account, e.g. to register a rate limit callback
+     *
+     * @return the per-account HTTP client
+     */
+    public RachioHttp getHttp() {
+        return http;
+    }
+
+    /**
+     * Issue a GET request and decode the JSON response off the caller's thread.
+     * Concurrent requests for the same endpoint are collapsed: while a request is in flight, further
+     * callers share its decoded result instead of spending another rate-limited call.
+     *
+     * @param endpoint API endpoint
+     * @param type Target type for Gson
+     * @param priority priority class used by the quota scheduler (of the first caller when collapsed)
+     * @param deadline point in time after which the request is abandoned, or null for the bridge timeout;
+     *            requests with a deadline are not collapsed
+     * @return Future with the decoded object, or null if the response was empty
+     */
+    private <T> CompletableFuture<@Nullable T> getAsync(String endpoint, Type type, RachioRequestPriority priority,
+            @Nullable Instant deadline) {
+        // Decode straight from the response stream; an empty body decodes to null
+        ResponseDecoder<@Nullable T> decoder = reader -> gson.fromJson(new JsonReader(reader), type);
+        return sharedGetAsync(endpoint, endpoint, decoder, priority, deadline);
+    }
+
+    /**
+     * Issue a GET request decoding only the fields of a projection; all other fields are skipped in the stream.
+     * Requests are only collapsed with requests for the same projection.
+     *
+     * @param endpoint API endpoint
+     * @param type person, device or zone
+     * @param projection fields to decode
+     * @param priority priority class used by the quota scheduler (of the first caller when collapsed)
+     * @param deadline point in time after which the request is abandoned, or null for the bridge timeout;
+     *            requests with a deadline are not collapsed
+     * @return Future with the decoded object, or null if the response was empty
+     */
+    private <T> CompletableFuture<@Nullable T> getAsync(String endpoint, Class<T> type, RachioProjection projection,
+            RachioRequestPriority priority, @Nullable Instant deadline) {
+        TypeAdapter<T> adapter = RachioGson.getAdapter(type, projection);
+        ResponseDecoder<@Nullable T> decoder = reader -> {
+            JsonReader json = new JsonReader(reader);
+            try {
+                json.peek();
+            } catch (EOFException e) {
+                return null;
+            }
+            return adapter.read(json);
+        };
+        return sharedGetAsync(endpoint + "#" + projection, endpoint, decoder, priority, deadline);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<@Nullable T> sharedGetAsync(String key, String endpoint,
+            ResponseDecoder<@Nullable T> decoder, RachioRequestPriority priority, @Nullable Instant deadline) {
+        if (deadline != null) {
+            // The deadline has to reach the quota scheduler and the exchange, which a shared request cannot do
+            // for callers with different deadlines
+            return http.getAsync(endpoint, priority, decoder, deadline);
+        }
+
+        CompletableFuture<@Nullable T> flight = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            logger.trace("Joining in-flight request for {}", key);
+            // Hand out a copy so one caller cancelling does not affect the others
+            return ((CompletableFuture<@Nullable T>) existing).copy();
+        }
+
+        http.getAsync(endpoint, priority, decoder).whenComplete((result, error) -> {
+            // Leave the map before completing so callers arriving afterwards start a fresh request
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return flight.copy();
+    }
+
+    /**
+     * Issue a GET request through the response cache.
+     * Fresh entries are returned without a request. Stale entries are returned immediately while one
+     * background refresh runs; misses wait for the request.
+     *
+     * @param endpoint API endpoint
+     * @param type Target type for Gson
+     * @param priority priority class used by the quota scheduler
+     * @param ttlSeconds time to live of the cached response
+     * @param deviceId device the response belongs to, or null if not device specific
+     * @return Future with the decoded object, or null if the response was empty
+     */
+    private <T> CompletableFuture<@Nullable T> cachedGetAsync(String endpoint, Type type,
+            RachioRequestPriority priority, int ttlSeconds, @Nullable String deviceId) {
+        return cachedGetAsync(endpoint, type, priority, ttlSeconds, deviceId, null);
+    }
+
+    /**
+     * Issue a GET request through the response cache with a caller deadline.
+     * The deadline only applies to misses; a background refresh of a stale entry keeps the default deadline.
+     *
+     * @param endpoint API endpoint
+     * @param type Target type for Gson
+     * @param priority priority class used by the quota scheduler
+     * @param ttlSeconds time to live of the cached response
+     * @param deviceId device the response belongs to, or null if not device specific
+     * @param deadline point in time after which the caller no longer waits, or null for the bridge timeout
+     * @return Future with the decoded object, or null if the response was empty
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<@Nullable T> cachedGetAsync(String endpoint, Type type,
+            RachioRequestPriority priority, int ttlSeconds, @Nullable String deviceId, @Nullable Instant deadline) {
+        RachioResponseCache localCache = cache;
+        if (localCache == null) {
+            return getAsync(endpoint, type, priority, deadline);
+        }
+
+        // Taken before the request, so a write invalidating the device meanwhile keeps the response out
+        long generation = localCache.generation();
+        RachioResponseCache.Entry entry = localCache.get(endpoint);
+        if (entry != null) {
+            if (!entry.isFresh(System.currentTimeMillis()) && localCache.beginRefresh(endpoint)) {
+                logger.trace("Serving stale {} while refreshing", endpoint);
+                this.<T> getAsync(endpoint, type, priority, null).whenComplete((result, error) -> {
+                    if (error != null) {
+                        localCache.endRefresh(endpoint);
+                    } else {
+                        localCache.put(endpoint, result, deviceId, ttlSeconds, generation);
+                    }
+                });
+            }
+            return CompletableFuture.completedFuture((T) entry.value);
+        }
+
+        return this.<T> getAsync(endpoint, type, priority, deadline).thenApply(result -> {
+            if (!localCache.put(endpoint, result, deviceId, ttlSeconds, generation)) {
+                logger.trace("Not caching {}, the device was written while it was read", endpoint);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Invalidate the cached responses of a device when a write is sent and again when it completes,
+     * so a refresh racing with the command cannot keep the old state
+     *
+     * @param command the pending write
+     * @param deviceId affected device, or null to invalidate all devices
+     * @return the write
+     */
+    private CompletableFuture<Void> invalidateAround(CompletableFuture<Void> command, @Nullable String deviceId) {
+        invalidate(deviceId);
+        return command.whenComplete((result, error) -> invalidate(deviceId));
+    }
+
+    private void invalidate(@Nullable String deviceId) {
+        RachioResponseCache localCache = cache;
+        if (localCache == null) {
+            return;
+        }
+        if (deviceId != null) {
+            localCache.invalidateDevice(deviceId);
+        } else {
+            localCache.invalidateAllDevices();
+        }
+    }
+
+    /**
+     * Look up the controller of a zone, as learned from earlier device and zone responses
+     *
+     * @param zoneId Zone ID
+     * @return the device ID, or null if the zone has not been seen yet
+     */
+    public @Nullable String getZoneDeviceId(String zoneId) {
+        return zoneDevices.get(zoneId);
+    }
+
+    /**
+     * Record the controller of a zone learned outside of this client, e.g. from a poll or a webhook event
+     *
+     * @param zoneId Zone ID
+     * @param deviceId Device ID
+     */
+    public void rememberZone(String zoneId, String deviceId) {
+        zoneDevices.put(zoneId, deviceId);
+    }
+
+    private void rememberZones(String deviceId, List<RachioZone> zones) {
+        for (RachioZone zone : zones) {
+            zoneDevices.put(zone.id, deviceId);
+        }
+    }
+
+    private int getStatusCacheTtl() {
+        return Math.min(defaultCacheTtl, STATUS_CACHE_TTL);
+    }
+
+    private int getCatalogCacheTtl() {
+        return Math.max(defaultCacheTtl, CATALOG_CACHE_TTL);
+    }
+
+    /**
+     * Asynchronously get person info for the authenticated user
+     * 
+     * @return Future with the person object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioPerson> getPersonInfoAsync() {
+        return getPersonInfoAsync(RachioRequestPriority.STATUS);
+    }
+
+    /**
+     * Asynchronously get person info for the authenticated user
+     * 
+     * @param priority priority class used by the quota scheduler
+     * @return Future with the person object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioPerson> getPersonInfoAsync(RachioRequestPriority priority) {
+        return getAsync(RachioBindingConstants.API_PERSON_ENDPOINT, RachioPerson.class, priority, null);
+    }
+
+    /**
+     * Asynchronously get the fields of a projection from the person info of the authenticated user.
+     * Everything outside the projection is skipped while reading, so decoding cost follows what the caller uses.
+     *
+     * @param projection fields to decode, e.g. {@code devices[id,status,zones[id,enabled]]}
+     * @return Future with the partially populated person object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioPerson> getPersonInfoAsync(RachioProjection projection) {
+        return getAsync(RachioBindingConstants.API_PERSON_ENDPOINT, RachioPerson.class, projection,
+                RachioRequestPriority.STATUS, null);
     }
 
     /**
@@ -58,13 +345,37 @@ public class RachioApiClient {
      * @return Person object or null if not found
      */
     public @Nullable RachioPerson getPersonInfo() throws RachioApiException {
-        String response = RachioHttp.get(RachioBindingConstants.API_PERSON_ENDPOINT);
+        return RachioHttp.await(getPersonInfoAsync());
+    }
 
-        if (response.isEmpty()) {
-            return null;
-        }
+    /**
+     * Get person info for the authenticated user
+     * 
+     * @param priority priority class used by the quota scheduler
+     * @return Person object or null if not found
+     */
+    public @Nullable RachioPerson getPersonInfo(RachioRequestPriority priority) throws RachioApiException {
+        return RachioHttp.await(getPersonInfoAsync(priority));
+    }
 
-        return gson.fromJson(response, RachioPerson.class);
+    /**
+     * Asynchronously get all devices for the authenticated user
+     * 
+     * @return Future with the list of devices or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioDevice>> getDevicesAsync() {
+        return getDevicesAsync(RachioRequestPriority.STATUS);
+    }
+
+    /**
+     * Asynchronously get all devices for the authenticated user
+     * 
+     * @param priority priority class used by the quota scheduler
+     * @return Future with the list of devices or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioDevice>> getDevicesAsync(RachioRequestPriority priority) {
+        Type type = RachioGson.DEVICE_LIST;
+        return getAsync(RachioBindingConstants.API_DEVICE_ENDPOINT, type, priority, null);
     }
 
     /**
@@ -73,15 +384,59 @@ public class RachioApiClient {
      * @return List of devices or empty list if none
      */
     public @Nullable List<RachioDevice> getDevices() throws RachioApiException {
-        String response = RachioHttp.get(RachioBindingConstants.API_DEVICE_ENDPOINT);
+        return RachioHttp.await(getDevicesAsync());
+    }
 
-        if (response.isEmpty()) {
-            return null;
-        }
+    /**
+     * Get all devices for the authenticated user
+     * 
+     * @param priority priority class used by the quota scheduler
+     * @return List of devices or empty list if none
+     */
+    public @Nullable List<RachioDevice> getDevices(RachioRequestPriority priority) throws RachioApiException {
+        return RachioHttp.await(getDevicesAsync(priority));
+    }
+
+    /**
+     * Asynchronously get a specific device by ID
+     * 
+     * @param deviceId Device ID
+     * @return Future with the device object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioDevice> getDeviceAsync(String deviceId) {
+        return getDeviceAsync(deviceId, RachioRequestPriority.STATUS);
+    }
 
-        Type type = new TypeToken<List<RachioDevice>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get a specific device by ID
+     * 
+     * @param deviceId Device ID
+     * @param priority priority class used by the quota scheduler
+     * @return Future with the device object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioDevice> getDeviceAsync(String deviceId, RachioRequestPriority priority) {
+        return getDeviceAsync(deviceId, priority, null);
+    }
+
+    /**
+     * Asynchronously get a specific device by ID, giving up at a deadline
+     * 
+     * @param deviceId Device ID
+     * @param priority priority class used by the quota scheduler
+     * @param deadline point in time after which the caller no longer waits, or null for the bridge timeout
+     * @return Future with the device object or null if not found
+     */
+    public CompletableFuture<@Nullable RachioDevice> getDeviceAsync(String deviceId, RachioRequestPriority priority,
+            @Nullable Instant deadline) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId;
+        CompletableFuture<@Nullable RachioDevice> future = cachedGetAsync(endpoint, RachioDevice.class, priority,
+                getStatusCacheTtl(), deviceId, deadline);
+        return future.thenApply(device -> {
+            if (device != null && device.zones != null) {
+                rememberZones(deviceId, device.zones);
+            }
+            return device;
+        });
     }
 
     /**
@@ -91,14 +446,50 @@ public class RachioApiClient {
      * @return Device object or null if not found
      */
     public @Nullable RachioDevice getDevice(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId;
-        String response = RachioHttp.get(endpoint);
+        return RachioHttp.await(getDeviceAsync(deviceId));
+    }
 
-        if (response.isEmpty()) {
-            return null;
-        }
+    /**
+     * Get a specific device by ID
+     * 
+     * @param deviceId Device ID
+     * @param priority priority class used by the quota scheduler
+     * @return Device object or null if not found
+     */
+    public @Nullable RachioDevice getDevice(String deviceId, RachioRequestPriority priority)
+            throws RachioApiException {
+        return RachioHttp.await(getDeviceAsync(deviceId, priority));
+    }
+
+    /**
+     * Asynchronously get zones for a device
+     * 
+     * @param deviceId Device ID
+     * @return Future with the list of zones or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioZone>> getZonesAsync(String deviceId) {
+        return getZonesAsync(deviceId, RachioRequestPriority.STATUS);
+    }
 
-        return gson.fromJson(response, RachioDevice.class);
+    /**
+     * Asynchronously get zones for a device
+     * 
+     * @param deviceId Device ID
+     * @param priority priority class used by the quota scheduler
+     * @return Future with the list of zones or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioZone>> getZonesAsync(String deviceId,
+            RachioRequestPriority priority) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/zone";
+        Type type = RachioGson.ZONE_LIST;
+        CompletableFuture<@Nullable List<RachioZone>> future = cachedGetAsync(endpoint, type, priority,
+                getStatusCacheTtl(), deviceId);
+        return future.thenApply(zones -> {
+            if (zones != null) {
+                rememberZones(deviceId, zones);
+            }
+            return zones;
+        });
     }
 
     /**
@@ -108,16 +499,32 @@ public class RachioApiClient {
      * @return List of zones or empty list if none
      */
     public @Nullable List<RachioZone> getZones(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/zone";
-        String response = RachioHttp.get(endpoint);
+        return RachioHttp.await(getZonesAsync(deviceId));
+    }
 
-        if (response.isEmpty()) {
-            return null;
-        }
+    /**
+     * Get zones for a device
+     * 
+     * @param deviceId Device ID
+     * @param priority priority class used by the quota scheduler
+     * @return List of zones or empty list if none
+     */
+    public @Nullable List<RachioZone> getZones(String deviceId, RachioRequestPriority priority)
+            throws RachioApiException {
+        return RachioHttp.await(getZonesAsync(deviceId, priority));
+    }
 
-        Type type = new TypeToken<List<RachioZone>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously start a zone
+     * 
+     * @param zoneId Zone ID
+     * @param duration Duration in seconds
+     * @return Future completing when the command was accepted
+     */
+    public CompletableFuture<Void> startZoneAsync(String zoneId, int duration) {
+        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/start";
+        String payload = "{\"duration\":" + duration + "}";
+        return invalidateAround(http.putAsync(endpoint, payload), zoneDevices.get(zoneId));
     }
 
     /**
@@ -127,9 +534,18 @@ public class RachioApiClient {
      * @param duration Duration in seconds
      */
     public void startZone(String zoneId, int duration) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/start";
-        String payload = "{\"duration\":" + duration + "}";
-        RachioHttp.put(endpoint, payload);
+        RachioHttp.await(startZoneAsync(zoneId, duration));
+    }
+
+    /**
+     * Asynchronously stop a zone
+     * 
+     * @param zoneId Zone ID
+     * @return Future completing when the command was accepted
+     */
+    public CompletableFuture<Void> stopZoneAsync(String zoneId) {
+        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/stop";
+        return invalidateAround(http.putAsync(endpoint, ""), zoneDevices.get(zoneId));
     }
 
     /**
@@ -138,19 +554,42 @@ public class RachioApiClient {
      * @param zoneId Zone ID
      */
     public void stopZone(String zoneId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/stop";
-        RachioHttp.put(endpoint, "");
+        RachioHttp.await(stopZoneAsync(zoneId));
     }
 
     /**
-     * Start multiple zones
+     * Asynchronously start multiple zones; the controller runs them one after the other by sort order
      * 
-     * @param zones List of zone IDs and durations
+     * @param zones List of zone IDs, durations and sort order
+     * @return Future completing when the command was accepted
      */
-    public void startMultipleZones(List<ZoneRunStatus> zones) throws RachioApiException {
+    public CompletableFuture<Void> startMultipleZonesAsync(List<RachioZoneRun> zones) {
         String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/start_multiple";
-        String payload = gson.toJson(zones);
-        RachioHttp.put(endpoint, payload);
+        String payload = gson.toJson(Map.of("zones", zones));
+        // All zones of one request belong to the same controller
+        String deviceId = zones.isEmpty() ? null : zoneDevices.get(zones.get(0).id);
+        return invalidateAround(http.putAsync(endpoint, payload), deviceId);
+    }
+
+    /**
+     * Start multiple zones
+     * 
+     * @param zones List of zone IDs, durations and sort order
+     */
+    public void startMultipleZones(List<RachioZoneRun> zones) throws RachioApiException {
+        RachioHttp.await(startMultipleZonesAsync(zones));
+    }
+
+    /**
+     * Asynchronously get zone run status
+     * 
+     * @param zoneId Zone ID
+     * @return Future with the zone run status or null if not running
+     */
+    public CompletableFuture<@Nullable ZoneRunStatus> getZoneRunStatusAsync(String zoneId) {
+        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/current_schedule";
+        Type type = ZoneRunStatus.class;
+        return getAsync(endpoint, type, RachioRequestPriority.STATUS, null);
     }
 
     /**
@@ -160,16 +599,19 @@ public class RachioApiClient {
      * @return Zone run status or null if not running
      */
     public @Nullable ZoneRunStatus getZoneRunStatus(String zoneId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_ZONE_ENDPOINT + "/" + zoneId + "/current_schedule";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getZoneRunStatusAsync(zoneId));
+    }
 
-        Type type = new TypeToken<ZoneRunStatus>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get device schedule
+     * 
+     * @param deviceId Device ID
+     * @return Future with the list of schedules or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioSchedule>> getScheduleAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/schedule";
+        Type type = RachioGson.SCHEDULE_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, defaultCacheTtl, deviceId);
     }
 
     /**
@@ -179,16 +621,19 @@ public class RachioApiClient {
      * @return List of schedules or empty list if none
      */
     public @Nullable List<RachioSchedule> getSchedule(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/schedule";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getScheduleAsync(deviceId));
+    }
 
-        Type type = new TypeToken<List<RachioSchedule>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get device forecast
+     * 
+     * @param deviceId Device ID
+     * @return Future with the forecast object or null if not available
+     */
+    public CompletableFuture<@Nullable RachioForecast> getForecastAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/forecast";
+        Type type = RachioForecast.class;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, defaultCacheTtl, deviceId);
     }
 
     /**
@@ -198,16 +643,19 @@ public class RachioApiClient {
      * @return Forecast object or null if not available
      */
     public @Nullable RachioForecast getForecast(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/forecast";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getForecastAsync(deviceId));
+    }
 
-        Type type = new TypeToken<RachioForecast>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get device usage
+     * 
+     * @param deviceId Device ID
+     * @return Future with the usage object or null if not available
+     */
+    public CompletableFuture<@Nullable RachioUsage> getUsageAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/water_usage";
+        Type type = RachioUsage.class;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, defaultCacheTtl, deviceId);
     }
 
     /**
@@ -217,16 +665,19 @@ public class RachioApiClient {
      * @return Usage object or null if not available
      */
     public @Nullable RachioUsage getUsage(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/water_usage";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getUsageAsync(deviceId));
+    }
 
-        Type type = new TypeToken<RachioUsage>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get device savings
+     * 
+     * @param deviceId Device ID
+     * @return Future with the savings object or null if not available
+     */
+    public CompletableFuture<@Nullable RachioSavings> getSavingsAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/savings";
+        Type type = RachioSavings.class;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, defaultCacheTtl, deviceId);
     }
 
     /**
@@ -236,16 +687,19 @@ public class RachioApiClient {
      * @return Savings object or null if not available
      */
     public @Nullable RachioSavings getSavings(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/savings";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getSavingsAsync(deviceId));
+    }
 
-        Type type = new TypeToken<RachioSavings>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get device alerts
+     * 
+     * @param deviceId Device ID
+     * @return Future with the list of alerts or empty list if none
+     */
+    public CompletableFuture<@Nullable List<RachioAlert>> getAlertsAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/alert";
+        Type type = RachioGson.ALERT_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, defaultCacheTtl, deviceId);
     }
 
     /**
@@ -255,16 +709,19 @@ public class RachioApiClient {
      * @return List of alerts or empty list if none
      */
     public @Nullable List<RachioAlert> getAlerts(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/alert";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getAlertsAsync(deviceId));
+    }
 
-        Type type = new TypeToken<List<RachioAlert>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get event summary for a device
+     * 
+     * @param deviceId Device ID
+     * @return Future with the event summary or null if not available
+     */
+    public CompletableFuture<@Nullable RachioEventSummary> getEventSummaryAsync(String deviceId) {
+        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/event";
+        return cachedGetAsync(endpoint, RachioEventSummary.class, RachioRequestPriority.BACKGROUND, defaultCacheTtl,
+                deviceId);
     }
 
     /**
@@ -274,14 +731,18 @@ public class RachioApiClient {
      * @return Event summary or null if not available
      */
     public @Nullable RachioEventSummary getEventSummary(String deviceId) throws RachioApiException {
-        String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/event";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getEventSummaryAsync(deviceId));
+    }
 
-        return gson.fromJson(response, RachioEventSummary.class);
+    /**
+     * Asynchronously get custom soil data
+     * 
+     * @return Future with the list of custom soils or empty list if none
+     */
+    public CompletableFuture<@Nullable List<CustomSoil>> getCustomSoilsAsync() {
+        String endpoint = "/custom_soil";
+        Type type = RachioGson.CUSTOM_SOIL_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, getCatalogCacheTtl(), null);
     }
 
     /**
@@ -290,16 +751,18 @@ public class RachioApiClient {
      * @return List of custom soils or empty list if none
      */
     public @Nullable List<CustomSoil> getCustomSoils() throws RachioApiException {
-        String endpoint = "/custom_soil";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getCustomSoilsAsync());
+    }
 
-        Type type = new TypeToken<List<CustomSoil>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get custom crop data
+     * 
+     * @return Future with the list of custom crops or empty list if none
+     */
+    public CompletableFuture<@Nullable List<CustomCrop>> getCustomCropsAsync() {
+        String endpoint = "/custom_crop";
+        Type type = RachioGson.CUSTOM_CROP_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, getCatalogCacheTtl(), null);
     }
 
     /**
@@ -308,16 +771,18 @@ public class RachioApiClient {
      * @return List of custom crops or empty list if none
      */
     public @Nullable List<CustomCrop> getCustomCrops() throws RachioApiException {
-        String endpoint = "/custom_crop";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getCustomCropsAsync());
+    }
 
-        Type type = new TypeToken<List<CustomCrop>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get custom nozzle data
+     * 
+     * @return Future with the list of custom nozzles or empty list if none
+     */
+    public CompletableFuture<@Nullable List<CustomNozzle>> getCustomNozzlesAsync() {
+        String endpoint = "/custom_nozzle";
+        Type type = RachioGson.CUSTOM_NOZZLE_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, getCatalogCacheTtl(), null);
     }
 
     /**
@@ -326,16 +791,18 @@ public class RachioApiClient {
      * @return List of custom nozzles or empty list if none
      */
     public @Nullable List<CustomNozzle> getCustomNozzles() throws RachioApiException {
-        String endpoint = "/custom_nozzle";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getCustomNozzlesAsync());
+    }
 
-        Type type = new TypeToken<List<CustomNozzle>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get custom slope data
+     * 
+     * @return Future with the list of custom slopes or empty list if none
+     */
+    public CompletableFuture<@Nullable List<CustomSlope>> getCustomSlopesAsync() {
+        String endpoint = "/custom_slope";
+        Type type = RachioGson.CUSTOM_SLOPE_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, getCatalogCacheTtl(), null);
     }
 
     /**
@@ -344,16 +811,18 @@ public class RachioApiClient {
      * @return List of custom slopes or empty list if none
      */
     public @Nullable List<CustomSlope> getCustomSlopes() throws RachioApiException {
-        String endpoint = "/custom_slope";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
+        return RachioHttp.await(getCustomSlopesAsync());
+    }
 
-        Type type = new TypeToken<List<CustomSlope>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+    /**
+     * Asynchronously get custom shade data
+     * 
+     * @return Future with the list of custom shades or empty list if none
+     */
+    public CompletableFuture<@Nullable List<CustomShade>> getCustomShadesAsync() {
+        String endpoint = "/custom_shade";
+        Type type = RachioGson.CUSTOM_SHADE_LIST;
+        return cachedGetAsync(endpoint, type, RachioRequestPriority.BACKGROUND, getCatalogCacheTtl(), null);
     }
 
     /**
@@ -362,16 +831,7 @@ public class RachioApiClient {
      * @return List of custom shades or empty list if none
      */
     public @Nullable List<CustomShade> getCustomShades() throws RachioApiException {
-        String endpoint = "/custom_shade";
-        String response = RachioHttp.get(endpoint);
-
-        if (response.isEmpty()) {
-            return null;
-        }
-
-        Type type = new TypeToken<List<CustomShade>>() {
-        }.getType();
-        return gson.fromJson(response, type);
+        return RachioHttp.await(getCustomShadesAsync());
     }
 
     /**
@@ -395,7 +855,7 @@ public class RachioApiClient {
         String payload = String.format("{\"url\":\"%s\",\"externalId\":\"%s\"}", url,
                 RachioBindingConstants.WEBHOOK_ID);
         try {
-            RachioHttp.put(RachioBindingConstants.API_WEBHOOK_ENDPOINT, payload);
+            http.put(RachioBindingConstants.API_WEBHOOK_ENDPOINT, payload);
             return true;
         } catch (RachioApiException e) {
             // Log the error and rethrow or return false based on your error handling policy
@@ -432,25 +892,43 @@ public class RachioApiClient {
      * @throws RachioApiException if the API request fails
      */
     public void setDevicePaused(String deviceId, boolean paused) throws RachioApiException {
+        RachioHttp.await(setDevicePausedAsync(deviceId, paused));
+    }
+
+    /**
+     * Asynchronously set the paused state of a device.
+     * 
+     * @param deviceId The ID of the device to pause or unpause
+     * @param paused true to pause the device, false to resume
+     * @return Future completing when the command was accepted
+     */
+    public CompletableFuture<Void> setDevicePausedAsync(String deviceId, boolean paused) {
         String endpoint = RachioBindingConstants.API_DEVICE_ENDPOINT + "/" + deviceId + "/pause";
         String payload = String.format("{\"paused\":%s}", paused ? "true" : "false");
-        RachioHttp.put(endpoint, payload);
+        return invalidateAround(http.putAsync(endpoint, payload), deviceId);
     }
 
     /**
      * Get a specific zone by ID.
+     * The API has no endpoint for a single zone, so the zones of its controller are fetched (usually from the
+     * cache) and filtered. The controller must be known from an earlier device or zone response, a poll or a
+     * webhook event.
      * 
      * @param zoneId Zone ID
-     * @return Zone object
-     * @throws RachioApiException if the API request fails
+     * @return Zone object or null if the controller no longer has the zone
+     * @throws RachioApiException if the controller of the zone is unknown or the API request fails
      */
     public @Nullable RachioZone getZone(String zoneId) throws RachioApiException {
-        // Note: The Rachio API might not have a direct endpoint for a single zone.
-        // A common pattern is to get all zones for a device and filter.
-        // This method signature exists to satisfy the interface.
-        // A proper implementation would require the device ID context.
-        throw new RachioApiException(
-                "getZone(String zoneId) requires device context. Use getZones(deviceId) and filter.");
+        String deviceId = zoneDevices.get(zoneId);
+        if (deviceId == null) {
+            throw new RachioApiException("Controller of zone " + zoneId + " is not known yet");
+        }
+        for (RachioZone zone : getZonesSafe(deviceId)) {
+            if (zoneId.equals(zone.id)) {
+                return zone;
+            }
+        }
+        return null;
     }
 
     /**
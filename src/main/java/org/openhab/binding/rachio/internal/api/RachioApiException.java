@@ -1,5 +1,8 @@
 package org.openhab.binding.rachio.internal.api;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
 /**
  * Exception class for Rachio API errors
  * Includes HTTP status codes and detailed error information
@@ -15,6 +18,7 @@ public class RachioApiException extends Exception {
     private final String apiErrorCode;
     private final String requestUrl;
     private final String responseBody;
+    private long retryAfterMillis = -1;
 
     /**
      * Constructor with message
@@ -141,6 +145,21 @@ public class RachioApiException extends Exception {
         return responseBody;
     }
 
+    /**
+     * Get the delay the server asked for before retrying (Retry-After), or -1 if none was given
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /**
+     * Attach the delay the server asked for before retrying
+     */
+    public RachioApiException withRetryAfterMillis(long retryAfterMillis) {
+        this.retryAfterMillis = retryAfterMillis;
+        return this;
+    }
+
     /**
      * Check if this is an authentication error (401)
      */
@@ -336,4 +355,23 @@ public class RachioApiException extends Exception {
     public static RachioApiException validationError(String message, String apiErrorCode) {
         return new RachioApiException(message, 400, apiErrorCode, null, null);
     }
+
+    /**
+     * Translate a failure reported by an asynchronous API call into a RachioApiException.
+     * Unwraps CompletionException/ExecutionException layers added by CompletableFuture.
+     */
+    public static RachioApiException from(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RachioApiException) {
+            return (RachioApiException) cause;
+        }
+        if (cause == null) {
+            return new RachioApiException("Request failed");
+        }
+        return new RachioApiException("Request failed: " + cause.getMessage(), cause);
+    }
 }
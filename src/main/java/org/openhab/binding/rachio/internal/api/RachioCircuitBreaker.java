@@ -0,0 +1,195 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.rachio.internal.RachioBindingConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker for one family of Rachio API endpoints.
+ * After {@value #FAILURE_THRESHOLD} consecutive backend failures (network errors or HTTP 5xx) the circuit opens
+ * and calls fail fast. Once the open period has passed, a single half-open probe is let through: success closes
+ * the circuit, failure opens it again.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioCircuitBreaker {
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_MILLIS = 30000;
+
+    /**
+     * Circuit state
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Endpoint families with their own circuit
+     */
+    public enum EndpointFamily {
+        PERSON,
+        DEVICE,
+        ZONE,
+        FORECAST,
+        WEBHOOK;
+
+        /**
+         * Map an API endpoint to its family. Account level endpoints such as the custom catalogs belong to PERSON.
+         *
+         * @param endpoint API endpoint (without base URL)
+         * @return the family
+         */
+        public static EndpointFamily of(String endpoint) {
+            if (endpoint.contains("/forecast")) {
+                return FORECAST;
+            } else if (endpoint.startsWith(RachioBindingConstants.API_DEVICE_ENDPOINT)) {
+                return DEVICE;
+            } else if (endpoint.startsWith(RachioBindingConstants.API_ZONE_ENDPOINT)) {
+                return ZONE;
+            } else if (endpoint.startsWith(RachioBindingConstants.API_WEBHOOK_ENDPOINT)) {
+                return WEBHOOK;
+            }
+            return PERSON;
+        }
+    }
+
+    /**
+     * Listener for state transitions
+     */
+    public interface StateListener {
+        void onStateChanged(EndpointFamily family, State state);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RachioCircuitBreaker.class);
+
+    private final EndpointFamily family;
+    private final @Nullable StateListener listener;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openUntil = 0;
+
+    public RachioCircuitBreaker(EndpointFamily family, @Nullable StateListener listener) {
+        this.family = family;
+        this.listener = listener;
+    }
+
+    /**
+     * Ask whether a call may be sent. In the open state this lets exactly one probe through after the open period.
+     *
+     * @return true if the call may be sent
+     */
+    public boolean allowRequest() {
+        State changed = null;
+        boolean allowed;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    allowed = true;
+                    break;
+                case OPEN:
+                    allowed = System.currentTimeMillis() >= openUntil;
+                    if (allowed) {
+                        state = changed = State.HALF_OPEN;
+                    }
+                    break;
+                case HALF_OPEN:
+                default:
+                    // The probe is still outstanding
+                    allowed = false;
+                    break;
+            }
+        }
+        notifyListener(changed);
+        return allowed;
+    }
+
+    /**
+     * Record that the backend answered
+     */
+    public void onSuccess() {
+        State changed = null;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                state = changed = State.CLOSED;
+            }
+        }
+        notifyListener(changed);
+    }
+
+    /**
+     * Record a failed call; only backend failures count towards opening the circuit
+     *
+     * @param error failure of the call
+     */
+    public void onFailure(RachioApiException error) {
+        if (!isBackendFailure(error)) {
+            onSuccess();
+            return;
+        }
+        State changed = null;
+        synchronized (this) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= FAILURE_THRESHOLD) {
+                openUntil = System.currentTimeMillis() + OPEN_MILLIS;
+                if (state != State.OPEN) {
+                    state = changed = State.OPEN;
+                }
+            }
+        }
+        notifyListener(changed);
+    }
+
+    /**
+     * Give back a probe that was granted but never sent, so the next call may probe instead
+     */
+    public void onAbandoned() {
+        State changed = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                state = changed = State.OPEN;
+                openUntil = 0;
+            }
+        }
+        notifyListener(changed);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public EndpointFamily getFamily() {
+        return family;
+    }
+
+    private static boolean isBackendFailure(RachioApiException error) {
+        return error.isServerError() || (error.getStatusCode() == 0 && error.getCause() instanceof IOException);
+    }
+
+    private void notifyListener(@Nullable State changed) {
+        StateListener localListener = listener;
+        if (changed == null || localListener == null) {
+            return;
+        }
+        if (changed == State.OPEN) {
+            logger.warn("Rachio API circuit for {} endpoints opened, failing fast for {} s", family,
+                    OPEN_MILLIS / 1000);
+        } else {
+            logger.debug("Rachio API circuit for {} endpoints is {}", family, changed);
+        }
+        try {
+            localListener.onStateChanged(family, changed);
+        } catch (Exception e) {
+            logger.debug("Error in circuit breaker listener: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,747 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.rachio.internal.api.dto.RachioAlert;
+import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecast;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.Column;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.TextColumn;
+import org.openhab.binding.rachio.internal.api.dto.RachioPerson;
+import org.openhab.binding.rachio.internal.api.dto.RachioSavings;
+import org.openhab.binding.rachio.internal.api.dto.RachioUsage;
+import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.ZoneRunStatus;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Hand-written streaming adapters for the DTOs decoded on every poll: person, device and zone, and for the
+ * forecast, whose hourly and daily series are read straight into {@link RachioForecastSeries} columns.
+ * Each adapter looks up a field reader by JSON name and assigns the field directly, without reflection.
+ * Unknown fields are skipped, JSON null keeps the field's default, and a value of an unexpected type is skipped
+ * instead of failing the whole response. Nested types that are decoded less often (forecast, usage, savings,
+ * alerts, person sub-objects) are delegated to the adapters of the shared Gson instance.
+ * Adapters created for a {@link RachioProjection} additionally skip every field outside the projection.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioDtoAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == RachioZone.class) {
+            return (TypeAdapter<T>) zoneAdapter(gson, null);
+        } else if (raw == RachioDevice.class) {
+            return (TypeAdapter<T>) deviceAdapter(gson, null);
+        } else if (raw == RachioPerson.class) {
+            return (TypeAdapter<T>) personAdapter(gson, null);
+        } else if (raw == RachioForecast.class) {
+            return (TypeAdapter<T>) forecastAdapter(gson);
+        }
+        return null;
+    }
+
+    /**
+     * Create an adapter that only decodes the fields of a projection and skips all others.
+     * Nested projections are honoured for {@code devices} of a person and {@code zones} of a device; other nested
+     * objects are decoded whole. Fields outside the projection keep their defaults.
+     *
+     * @param gson Gson instance resolving the adapters of nested types
+     * @param type person, device or zone
+     * @param projection fields to decode
+     * @return the adapter
+     * @throws IllegalArgumentException if the type has no hand-written adapter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> createProjected(Gson gson, Class<T> type, RachioProjection projection) {
+        if (type == RachioZone.class) {
+            return (TypeAdapter<T>) zoneAdapter(gson, projection);
+        } else if (type == RachioDevice.class) {
+            return (TypeAdapter<T>) deviceAdapter(gson, projection);
+        } else if (type == RachioPerson.class) {
+            return (TypeAdapter<T>) personAdapter(gson, projection);
+        }
+        throw new IllegalArgumentException("Projection not supported for " + type.getName());
+    }
+
+    /**
+     * Reads the value of one JSON field into the target object
+     */
+    @FunctionalInterface
+    interface FieldReader<T> {
+        void read(JsonReader in, T target) throws IOException;
+    }
+
+    /**
+     * Writes the fields of an object
+     */
+    @FunctionalInterface
+    interface FieldWriter<T> {
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    /**
+     * Table driven adapter for one DTO class
+     */
+    static class DtoAdapter<T> extends TypeAdapter<T> {
+        private final Supplier<T> constructor;
+        private final Map<String, FieldReader<T>> readers;
+        private final FieldWriter<T> writer;
+
+        DtoAdapter(Supplier<T> constructor, Map<String, FieldReader<T>> readers, FieldWriter<T> writer) {
+            this.constructor = constructor;
+            this.readers = readers;
+            this.writer = writer;
+        }
+
+        @Override
+        public @Nullable T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            T target = constructor.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                FieldReader<T> reader = readers.get(in.nextName());
+                if (reader == null) {
+                    in.skipValue();
+                } else if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                } else {
+                    reader.read(in, target);
+                }
+            }
+            in.endObject();
+            return target;
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writer.write(out, value);
+            out.endObject();
+        }
+    }
+
+    // ===== Zone =====
+
+    private static TypeAdapter<RachioZone> zoneAdapter(Gson gson, @Nullable RachioProjection projection) {
+        // One timestamp adapter per field, each remembers the format its field uses
+        InstantTypeAdapter startDate = new InstantTypeAdapter();
+        InstantTypeAdapter endDate = new InstantTypeAdapter();
+        Map<String, FieldReader<RachioZone>> r = new HashMap<>();
+        r.put("id", (in, z) -> z.id = nextString(in, z.id));
+        r.put("zoneNumber", (in, z) -> z.zoneNumber = nextInt(in, z.zoneNumber));
+        r.put("name", (in, z) -> z.name = nextString(in, z.name));
+        r.put("enabled", (in, z) -> z.enabled = nextBoolean(in, z.enabled));
+        r.put("customSchedule", (in, z) -> z.customSchedule = nextBoolean(in, z.customSchedule));
+        r.put("customNozzle", (in, z) -> z.customNozzle = nextBoolean(in, z.customNozzle));
+        r.put("customSoil", (in, z) -> z.customSoil = nextBoolean(in, z.customSoil));
+        r.put("customSlope", (in, z) -> z.customSlope = nextBoolean(in, z.customSlope));
+        r.put("customCrop", (in, z) -> z.customCrop = nextBoolean(in, z.customCrop));
+        r.put("customShade", (in, z) -> z.customShade = nextBoolean(in, z.customShade));
+        r.put("deviceId", (in, z) -> z.deviceId = nextOptString(in, z.deviceId));
+        r.put("crop", (in, z) -> z.crop = nextOptString(in, z.crop));
+        r.put("soil", (in, z) -> z.soil = nextOptString(in, z.soil));
+        r.put("slope", (in, z) -> z.slope = nextOptString(in, z.slope));
+        r.put("shade", (in, z) -> z.shade = nextOptString(in, z.shade));
+        r.put("nozzle", (in, z) -> z.nozzle = nextOptString(in, z.nozzle));
+        r.put("saturatedDepthOfWater", (in, z) -> z.saturatedDepthOfWater = nextDouble(in, z.saturatedDepthOfWater));
+        r.put("runtimeNoMultiplier", (in, z) -> z.runtimeNoMultiplier = nextInt(in, z.runtimeNoMultiplier));
+        r.put("zoneArea", (in, z) -> z.zoneArea = nextDouble(in, z.zoneArea));
+        r.put("startDate", (in, z) -> z.startDate = startDate.read(in));
+        r.put("endDate", (in, z) -> z.endDate = endDate.read(in));
+        r.put("duration", (in, z) -> z.duration = nextInt(in, z.duration));
+        r.put("totalWater", (in, z) -> z.totalWater = nextDouble(in, z.totalWater));
+        r.put("imageUrl", (in, z) -> z.imageUrl = nextOptString(in, z.imageUrl));
+        r.put("lastWateredDuration", (in, z) -> z.lastWateredDuration = nextInt(in, z.lastWateredDuration));
+        r.put("lastWateredDate", (in, z) -> z.lastWateredDate = nextOptString(in, z.lastWateredDate));
+        r.put("scheduleDataModified", (in, z) -> z.scheduleDataModified = nextBoolean(in, z.scheduleDataModified));
+        r.put("maxRuntime", (in, z) -> z.maxRuntime = nextInt(in, z.maxRuntime));
+        r.put("runtime", (in, z) -> z.runtime = nextInt(in, z.runtime));
+        r.put("depthOfWater", (in, z) -> z.depthOfWater = nextDouble(in, z.depthOfWater));
+        r.put("efficiency", (in, z) -> z.efficiency = nextDouble(in, z.efficiency));
+        r.put("fixedRuntime", (in, z) -> z.fixedRuntime = nextInt(in, z.fixedRuntime));
+        r.put("yardAreaSquareFeet", (in, z) -> z.yardAreaSquareFeet = nextDouble(in, z.yardAreaSquareFeet));
+        r.put("availableWater", (in, z) -> z.availableWater = nextDouble(in, z.availableWater));
+        r.put("rootZoneDepth", (in, z) -> z.rootZoneDepth = nextDouble(in, z.rootZoneDepth));
+        r.put("managementAllowedDepletion",
+                (in, z) -> z.managementAllowedDepletion = nextDouble(in, z.managementAllowedDepletion));
+        r.put("estimatedArea", (in, z) -> z.estimatedArea = nextDouble(in, z.estimatedArea));
+        r.put("saturatedArea", (in, z) -> z.saturatedArea = nextDouble(in, z.saturatedArea));
+        r.put("wateringAdjustmentRuntimes",
+                (in, z) -> z.wateringAdjustmentRuntimes = nextBoolean(in, z.wateringAdjustmentRuntimes));
+        r.put("wateringAdjustmentRuntimesPercent", (in, z) -> z.wateringAdjustmentRuntimesPercent = nextInt(in,
+                z.wateringAdjustmentRuntimesPercent));
+        r.put("customNozzleId", (in, z) -> z.customNozzleId = nextOptString(in, z.customNozzleId));
+        r.put("customSoilId", (in, z) -> z.customSoilId = nextOptString(in, z.customSoilId));
+        r.put("customSlopeId", (in, z) -> z.customSlopeId = nextOptString(in, z.customSlopeId));
+        r.put("customCropId", (in, z) -> z.customCropId = nextOptString(in, z.customCropId));
+        r.put("customShadeId", (in, z) -> z.customShadeId = nextOptString(in, z.customShadeId));
+        r.put("lastRunStatus", (in, z) -> {
+            String status = nextOptString(in, null);
+            z.lastRunStatus = status != null ? ZoneRunStatus.fromValue(status) : z.lastRunStatus;
+        });
+        r.put("lastRunStartDate", (in, z) -> z.lastRunStartDate = nextOptString(in, z.lastRunStartDate));
+        r.put("lastRunEndDate", (in, z) -> z.lastRunEndDate = nextOptString(in, z.lastRunEndDate));
+        r.put("lastRunDuration", (in, z) -> z.lastRunDuration = nextInt(in, z.lastRunDuration));
+
+        return new DtoAdapter<>(RachioZone::new, project(r, projection), (out, z) -> {
+            out.name("id").value(z.id);
+            out.name("zoneNumber").value(z.zoneNumber);
+            out.name("name").value(z.name);
+            out.name("enabled").value(z.enabled);
+            out.name("customSchedule").value(z.customSchedule);
+            out.name("customNozzle").value(z.customNozzle);
+            out.name("customSoil").value(z.customSoil);
+            out.name("customSlope").value(z.customSlope);
+            out.name("customCrop").value(z.customCrop);
+            out.name("customShade").value(z.customShade);
+            writeString(out, "deviceId", z.deviceId);
+            writeString(out, "crop", z.crop);
+            writeString(out, "soil", z.soil);
+            writeString(out, "slope", z.slope);
+            writeString(out, "shade", z.shade);
+            writeString(out, "nozzle", z.nozzle);
+            out.name("saturatedDepthOfWater").value(z.saturatedDepthOfWater);
+            out.name("runtimeNoMultiplier").value(z.runtimeNoMultiplier);
+            out.name("zoneArea").value(z.zoneArea);
+            writeValue(out, "startDate", startDate, z.startDate);
+            writeValue(out, "endDate", endDate, z.endDate);
+            out.name("duration").value(z.duration);
+            out.name("totalWater").value(z.totalWater);
+            writeString(out, "imageUrl", z.imageUrl);
+            out.name("lastWateredDuration").value(z.lastWateredDuration);
+            writeString(out, "lastWateredDate", z.lastWateredDate);
+            out.name("scheduleDataModified").value(z.scheduleDataModified);
+            out.name("maxRuntime").value(z.maxRuntime);
+            out.name("runtime").value(z.runtime);
+            out.name("depthOfWater").value(z.depthOfWater);
+            out.name("efficiency").value(z.efficiency);
+            out.name("fixedRuntime").value(z.fixedRuntime);
+            out.name("yardAreaSquareFeet").value(z.yardAreaSquareFeet);
+            out.name("availableWater").value(z.availableWater);
+            out.name("rootZoneDepth").value(z.rootZoneDepth);
+            out.name("managementAllowedDepletion").value(z.managementAllowedDepletion);
+            out.name("estimatedArea").value(z.estimatedArea);
+            out.name("saturatedArea").value(z.saturatedArea);
+            out.name("wateringAdjustmentRuntimes").value(z.wateringAdjustmentRuntimes);
+            out.name("wateringAdjustmentRuntimesPercent").value(z.wateringAdjustmentRuntimesPercent);
+            writeString(out, "customNozzleId", z.customNozzleId);
+            writeString(out, "customSoilId", z.customSoilId);
+            writeString(out, "customSlopeId", z.customSlopeId);
+            writeString(out, "customCropId", z.customCropId);
+            writeString(out, "customShadeId", z.customShadeId);
+            ZoneRunStatus status = z.lastRunStatus;
+            writeString(out, "lastRunStatus", status != null ? status.name() : null);
+            writeString(out, "lastRunStartDate", z.lastRunStartDate);
+            writeString(out, "lastRunEndDate", z.lastRunEndDate);
+            out.name("lastRunDuration").value(z.lastRunDuration);
+        });
+    }
+
+    // ===== Device =====
+
+    @SuppressWarnings("unchecked")
+    private static TypeAdapter<RachioDevice> deviceAdapter(Gson gson, @Nullable RachioProjection projection) {
+        RachioProjection zoneFields = projection != null ? projection.get("zones") : null;
+        TypeAdapter<List<RachioZone>> zones = zoneFields != null ? new ListAdapter<>(zoneAdapter(gson, zoneFields))
+                : (TypeAdapter<List<RachioZone>>) gson
+                        .getAdapter(TypeToken.getParameterized(List.class, RachioZone.class));
+        InstantTypeAdapter createdDate = new InstantTypeAdapter();
+        InstantTypeAdapter rainDelayExpiration = new InstantTypeAdapter();
+        TypeAdapter<List<Object>> objects = (TypeAdapter<List<Object>>) gson
+                .getAdapter(TypeToken.getParameterized(List.class, Object.class));
+        TypeAdapter<List<RachioAlert>> alerts = (TypeAdapter<List<RachioAlert>>) gson
+                .getAdapter(TypeToken.getParameterized(List.class, RachioAlert.class));
+        TypeAdapter<Object> object = gson.getAdapter(Object.class);
+        // Delegates for nested objects that rarely appear in device responses are resolved on first use
+        Lazy<RachioUsage> usage = new Lazy<>(gson, RachioUsage.class);
+        Lazy<RachioForecast> forecast = new Lazy<>(gson, RachioForecast.class);
+        Lazy<RachioSavings> savings = new Lazy<>(gson, RachioSavings.class);
+        Lazy<RachioPerson> person = new Lazy<>(gson, RachioPerson.class);
+
+        Map<String, FieldReader<RachioDevice>> r = new HashMap<>();
+        r.put("id", (in, d) -> d.id = nextString(in, d.id));
+        r.put("name", (in, d) -> d.name = nextString(in, d.name));
+        r.put("status", (in, d) -> d.status = nextString(in, d.status));
+        // The API reports serialNumber; serial is what this binding has always written, so both are read
+        r.put("serial", (in, d) -> d.serial = d.serialNumber = nextString(in, d.serial));
+        r.put("serialNumber", (in, d) -> d.serial = d.serialNumber = nextString(in, d.serialNumber));
+        r.put("model", (in, d) -> d.model = nextString(in, d.model));
+        r.put("zones", (in, d) -> d.zones = nonNull(zones.read(in), d.zones));
+        r.put("scheduleRules", (in, d) -> d.scheduleRules = nonNull(objects.read(in), d.scheduleRules));
+        r.put("flexScheduleRules", (in, d) -> d.flexScheduleRules = nonNull(objects.read(in), d.flexScheduleRules));
+        r.put("imageUrl", (in, d) -> d.imageUrl = nextString(in, d.imageUrl));
+        r.put("latitude", (in, d) -> d.latitude = nextDouble(in, d.latitude));
+        r.put("longitude", (in, d) -> d.longitude = nextDouble(in, d.longitude));
+        r.put("createdDate", (in, d) -> d.createdDate = createdDate.read(in));
+        r.put("scheduleDataModified", (in, d) -> d.scheduleDataModified = nextBoolean(in, d.scheduleDataModified));
+        r.put("paused", (in, d) -> d.paused = nextBoolean(in, d.paused));
+        r.put("enabled", (in, d) -> d.enabled = nextBoolean(in, d.enabled));
+        r.put("deleted", (in, d) -> d.deleted = nextBoolean(in, d.deleted));
+        r.put("on", (in, d) -> d.on = nextBoolean(in, d.on));
+        r.put("rainDelay", (in, d) -> d.rainDelay = nextInt(in, d.rainDelay));
+        r.put("rainDelayExpiration", (in, d) -> d.rainDelayExpiration = rainDelayExpiration.read(in));
+        r.put("scheduleModeType", (in, d) -> d.scheduleModeType = nextString(in, d.scheduleModeType));
+        r.put("macAddress", (in, d) -> d.macAddress = nextString(in, d.macAddress));
+        r.put("homeKitCompatible", (in, d) -> d.homeKitCompatible = nextBoolean(in, d.homeKitCompatible));
+        r.put("etSkip", (in, d) -> d.etSkip = nextBoolean(in, d.etSkip));
+        r.put("masterValve", (in, d) -> d.masterValve = nextBoolean(in, d.masterValve));
+        r.put("cycleSoak", (in, d) -> d.cycleSoak = nextBoolean(in, d.cycleSoak));
+        r.put("wateringInProgress", (in, d) -> d.wateringInProgress = nextBoolean(in, d.wateringInProgress));
+        r.put("location", (in, d) -> d.location = object.read(in));
+        r.put("usage", (in, d) -> d.usage = usage.get().read(in));
+        r.put("forecast", (in, d) -> d.forecast = forecast.get().read(in));
+        r.put("savings", (in, d) -> d.savings = savings.get().read(in));
+        r.put("person", (in, d) -> d.person = person.get().read(in));
+        r.put("alerts", (in, d) -> d.alerts = nonNull(alerts.read(in), d.alerts));
+
+        return new DtoAdapter<>(RachioDevice::new, project(r, projection), (out, d) -> {
+            out.name("id").value(d.id);
+            out.name("name").value(d.name);
+            out.name("status").value(d.status);
+            out.name("serial").value(d.serial);
+            out.name("model").value(d.model);
+            writeValue(out, "zones", zones, d.zones);
+            writeValue(out, "scheduleRules", objects, d.scheduleRules);
+            writeValue(out, "flexScheduleRules", objects, d.flexScheduleRules);
+            out.name("imageUrl").value(d.imageUrl);
+            out.name("latitude").value(d.latitude);
+            out.name("longitude").value(d.longitude);
+            writeValue(out, "createdDate", createdDate, d.createdDate);
+            out.name("scheduleDataModified").value(d.scheduleDataModified);
+            out.name("paused").value(d.paused);
+            out.name("enabled").value(d.enabled);
+            out.name("deleted").value(d.deleted);
+            out.name("on").value(d.on);
+            out.name("rainDelay").value(d.rainDelay);
+            writeValue(out, "rainDelayExpiration", rainDelayExpiration, d.rainDelayExpiration);
+            out.name("scheduleModeType").value(d.scheduleModeType);
+            out.name("macAddress").value(d.macAddress);
+            out.name("homeKitCompatible").value(d.homeKitCompatible);
+            out.name("etSkip").value(d.etSkip);
+            out.name("masterValve").value(d.masterValve);
+            out.name("cycleSoak").value(d.cycleSoak);
+            out.name("wateringInProgress").value(d.wateringInProgress);
+            writeValue(out, "location", object, d.location);
+            writeValue(out, "usage", usage.get(), d.usage);
+            writeValue(out, "forecast", forecast.get(), d.forecast);
+            writeValue(out, "savings", savings.get(), d.savings);
+            writeValue(out, "person", person.get(), d.person);
+            writeValue(out, "alerts", alerts, d.alerts);
+        });
+    }
+
+    // ===== Person =====
+
+    @SuppressWarnings("unchecked")
+    private static TypeAdapter<RachioPerson> personAdapter(Gson gson, @Nullable RachioProjection projection) {
+        RachioProjection deviceFields = projection != null ? projection.get("devices") : null;
+        TypeAdapter<List<RachioDevice>> devices = deviceFields != null
+                ? new ListAdapter<>(deviceAdapter(gson, deviceFields))
+                : (TypeAdapter<List<RachioDevice>>) gson
+                        .getAdapter(TypeToken.getParameterized(List.class, RachioDevice.class));
+        InstantTypeAdapter createdDate = new InstantTypeAdapter();
+        InstantTypeAdapter updatedDate = new InstantTypeAdapter();
+        Lazy<RachioPerson.Subscription> subscription = new Lazy<>(gson, RachioPerson.Subscription.class);
+        Lazy<RachioPerson.Features> features = new Lazy<>(gson, RachioPerson.Features.class);
+        Lazy<RachioPerson.Address> address = new Lazy<>(gson, RachioPerson.Address.class);
+
+        Map<String, FieldReader<RachioPerson>> r = new HashMap<>();
+        r.put("id", (in, p) -> p.id = nextOptString(in, p.id));
+        r.put("username", (in, p) -> p.username = nextOptString(in, p.username));
+        r.put("email", (in, p) -> p.email = nextOptString(in, p.email));
+        r.put("fullName", (in, p) -> p.fullName = nextOptString(in, p.fullName));
+        r.put("createdDate", (in, p) -> p.createdDate = createdDate.read(in));
+        r.put("updatedDate", (in, p) -> p.updatedDate = updatedDate.read(in));
+        r.put("devices", (in, p) -> p.devices = nonNull(devices.read(in), p.devices));
+        r.put("subscription", (in, p) -> p.subscription = subscription.get().read(in));
+        r.put("features", (in, p) -> p.features = features.get().read(in));
+        r.put("address", (in, p) -> p.address = address.get().read(in));
+
+        return new DtoAdapter<>(RachioPerson::new, project(r, projection), (out, p) -> {
+            writeString(out, "id", p.id);
+            writeString(out, "username", p.username);
+            writeString(out, "email", p.email);
+            writeString(out, "fullName", p.fullName);
+            writeValue(out, "createdDate", createdDate, p.createdDate);
+            writeValue(out, "updatedDate", updatedDate, p.updatedDate);
+            writeValue(out, "devices", devices, p.devices);
+            writeValue(out, "subscription", subscription.get(), p.subscription);
+            writeValue(out, "features", features.get(), p.features);
+            writeValue(out, "address", address.get(), p.address);
+        });
+    }
+
+    // ===== Forecast =====
+
+    @SuppressWarnings("unchecked")
+    private static TypeAdapter<RachioForecast> forecastAdapter(Gson gson) {
+        InstantTypeAdapter generatedAt = new InstantTypeAdapter();
+        InstantTypeAdapter expiresAt = new InstantTypeAdapter();
+        SeriesAdapter hourly = new SeriesAdapter(RachioForecastSeries.HOURLY_PERIOD);
+        SeriesAdapter daily = new SeriesAdapter(RachioForecastSeries.DAILY_PERIOD);
+        SeriesAdapter forecastDays = new SeriesAdapter(RachioForecastSeries.DAILY_PERIOD);
+        TypeAdapter<List<RachioForecast.WeatherAlert>> alerts = (TypeAdapter<List<RachioForecast.WeatherAlert>>) gson
+                .getAdapter(TypeToken.getParameterized(List.class, RachioForecast.WeatherAlert.class));
+        Lazy<RachioForecast.CurrentConditions> current = new Lazy<>(gson, RachioForecast.CurrentConditions.class);
+
+        Map<String, FieldReader<RachioForecast>> r = new HashMap<>();
+        r.put("deviceId", (in, f) -> f.deviceId = nextOptString(in, f.deviceId));
+        r.put("latitude", (in, f) -> f.latitude = nextOptDouble(in, f.latitude));
+        r.put("longitude", (in, f) -> f.longitude = nextOptDouble(in, f.longitude));
+        r.put("timeZone", (in, f) -> f.timeZone = nextOptString(in, f.timeZone));
+        r.put("units", (in, f) -> f.units = nextOptString(in, f.units));
+        r.put("current", (in, f) -> f.current = current.get().read(in));
+        r.put("hourly", (in, f) -> f.setHourly(hourly.read(in)));
+        r.put("daily", (in, f) -> f.daily = daily.read(in));
+        r.put("forecastDays", (in, f) -> f.forecastDays = forecastDays.read(in));
+        r.put("alerts", (in, f) -> f.alerts = nonNull(alerts.read(in), f.alerts));
+        r.put("generatedAt", (in, f) -> f.generatedAt = generatedAt.read(in));
+        r.put("expiresAt", (in, f) -> f.expiresAt = expiresAt.read(in));
+
+        return new DtoAdapter<>(RachioForecast::new, r, (out, f) -> {
+            writeString(out, "deviceId", f.deviceId);
+            writeNumber(out, "latitude", f.latitude);
+            writeNumber(out, "longitude", f.longitude);
+            writeString(out, "timeZone", f.timeZone);
+            writeString(out, "units", f.units);
+            writeValue(out, "current", current.get(), f.current);
+            writeValue(out, "hourly", hourly, f.getHourly());
+            writeValue(out, "daily", daily, f.daily);
+            writeValue(out, "forecastDays", forecastDays, f.forecastDays);
+            writeValue(out, "alerts", alerts, f.alerts);
+            writeValue(out, "generatedAt", generatedAt, f.generatedAt);
+            writeValue(out, "expiresAt", expiresAt, f.expiresAt);
+        });
+    }
+
+    /**
+     * Reads an array of hourly or daily forecast objects into columns, without an object per row
+     */
+    private static class SeriesAdapter extends TypeAdapter<RachioForecastSeries> {
+        private static final Map<String, Column> COLUMNS = new HashMap<>();
+        private static final Map<String, TextColumn> TEXT_COLUMNS = new HashMap<>();
+
+        static {
+            for (Column column : Column.values()) {
+                COLUMNS.put(column.jsonName, column);
+            }
+            for (TextColumn column : TextColumn.values()) {
+                TEXT_COLUMNS.put(column.jsonName, column);
+            }
+        }
+
+        private final long period;
+        private final InstantTypeAdapter timestamp = new InstantTypeAdapter();
+        private final InstantTypeAdapter sunrise = new InstantTypeAdapter();
+        private final InstantTypeAdapter sunset = new InstantTypeAdapter();
+
+        SeriesAdapter(long period) {
+            this.period = period;
+        }
+
+        @Override
+        public RachioForecastSeries read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_ARRAY) {
+                in.skipValue();
+                return RachioForecastSeries.EMPTY;
+            }
+            RachioForecastSeries.Builder series = new RachioForecastSeries.Builder(period);
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                    in.skipValue();
+                    continue;
+                }
+                series.addRow();
+                in.beginObject();
+                while (in.hasNext()) {
+                    readField(in, in.nextName(), series);
+                }
+                in.endObject();
+            }
+            in.endArray();
+            return series.build();
+        }
+
+        private void readField(JsonReader in, String name, RachioForecastSeries.Builder series) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return;
+            }
+            Column column = COLUMNS.get(name);
+            TextColumn textColumn = TEXT_COLUMNS.get(name);
+            if (column == Column.SUNRISE || column == Column.SUNSET) {
+                Instant time = (column == Column.SUNRISE ? sunrise : sunset).read(in);
+                if (time != null) {
+                    series.set(column, time.getEpochSecond());
+                }
+            } else if (column == Column.SMART_SKIP) {
+                if (in.peek() == JsonToken.BOOLEAN) {
+                    series.set(column, in.nextBoolean() ? 1 : 0);
+                } else {
+                    in.skipValue();
+                }
+            } else if (column != null) {
+                double value = nextDouble(in, Double.NaN);
+                if (!Double.isNaN(value)) {
+                    series.set(column, value);
+                }
+            } else if (textColumn != null) {
+                String value = nextOptString(in, null);
+                if (value != null) {
+                    series.set(textColumn, value);
+                }
+            } else if ("timestamp".equals(name)) {
+                Instant time = timestamp.read(in);
+                if (time != null) {
+                    series.setTime(time.getEpochSecond());
+                }
+            } else if ("date".equals(name)) {
+                String value = nextOptString(in, null);
+                if (value != null && value.length() >= 10) {
+                    try {
+                        series.setTime(LocalDate.parse(value.substring(0, 10)).toEpochDay()
+                                * RachioForecastSeries.DAILY_PERIOD);
+                    } catch (DateTimeParseException e) {
+                        // Row stays without date
+                    }
+                }
+            } else {
+                in.skipValue();
+            }
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable RachioForecastSeries value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (int row = 0; row < value.size(); row++) {
+                out.beginObject();
+                long time = value.getTime(row);
+                if (time != RachioForecastSeries.NO_TIME) {
+                    if (period == RachioForecastSeries.DAILY_PERIOD) {
+                        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(time, RachioForecastSeries.DAILY_PERIOD));
+                        out.name("date").value(date.toString());
+                    } else {
+                        out.name("timestamp").value(Instant.ofEpochSecond(time).toString());
+                    }
+                }
+                for (Column column : Column.values()) {
+                    double data = value.get(column, row);
+                    if (Double.isNaN(data)) {
+                        continue;
+                    }
+                    out.name(column.jsonName);
+                    if (column == Column.SUNRISE || column == Column.SUNSET) {
+                        out.value(Instant.ofEpochSecond((long) data).toString());
+                    } else if (column == Column.SMART_SKIP) {
+                        out.value(data != 0);
+                    } else {
+                        out.value(data);
+                    }
+                }
+                for (TextColumn column : TextColumn.values()) {
+                    writeString(out, column.jsonName, value.getText(column, row));
+                }
+                out.endObject();
+            }
+            out.endArray();
+        }
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * Delegate adapter resolved on first use
+     */
+    private static class Lazy<T> {
+        private final Gson gson;
+        private final Type type;
+        private @Nullable TypeAdapter<T> adapter;
+
+        Lazy(Gson gson, Class<T> type) {
+            this.gson = gson;
+            this.type = type;
+        }
+
+        @SuppressWarnings("unchecked")
+        TypeAdapter<T> get() {
+            TypeAdapter<T> local = adapter;
+            if (local == null) {
+                local = (TypeAdapter<T>) gson.getAdapter(TypeToken.get(type));
+                adapter = local;
+            }
+            return local;
+        }
+    }
+
+    /**
+     * Array adapter for a projected element adapter, which Gson's own collection adapters cannot be given
+     */
+    private static class ListAdapter<E> extends TypeAdapter<List<E>> {
+        private final TypeAdapter<E> element;
+
+        ListAdapter(TypeAdapter<E> element) {
+            this.element = element;
+        }
+
+        @Override
+        public @Nullable List<E> read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_ARRAY) {
+                in.skipValue();
+                return null;
+            }
+            List<E> list = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                E value = element.read(in);
+                if (value != null) {
+                    list.add(value);
+                }
+            }
+            in.endArray();
+            return list;
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable List<E> value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (E item : value) {
+                element.write(out, item);
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Keep only the readers of projected fields; the fields of all others are skipped by the adapter
+     */
+    private static <T> Map<String, FieldReader<T>> project(Map<String, FieldReader<T>> readers,
+            @Nullable RachioProjection projection) {
+        if (projection == null) {
+            return readers;
+        }
+        readers.keySet().removeIf(name -> !projection.includes(name));
+        return readers;
+    }
+
+    private static <T> T nonNull(@Nullable T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static String nextString(JsonReader in, String fallback) throws IOException {
+        String value = nextOptString(in, fallback);
+        return value != null ? value : fallback;
+    }
+
+    private static @Nullable String nextOptString(JsonReader in, @Nullable String fallback) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return in.nextString();
+        } else if (token == JsonToken.BOOLEAN) {
+            return String.valueOf(in.nextBoolean());
+        }
+        in.skipValue();
+        return fallback;
+    }
+
+    private static int nextInt(JsonReader in, int fallback) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+            try {
+                return (int) in.nextDouble();
+            } catch (NumberFormatException e) {
+                // A string that is not a number stays buffered in the reader
+                in.skipValue();
+                return fallback;
+            }
+        }
+        in.skipValue();
+        return fallback;
+    }
+
+    private static double nextDouble(JsonReader in, double fallback) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+            try {
+                return in.nextDouble();
+            } catch (NumberFormatException e) {
+                // A string that is not a number stays buffered in the reader
+                in.skipValue();
+                return fallback;
+            }
+        }
+        in.skipValue();
+        return fallback;
+    }
+
+    private static @Nullable Double nextOptDouble(JsonReader in, @Nullable Double fallback) throws IOException {
+        double value = nextDouble(in, Double.NaN);
+        return !Double.isNaN(value) ? value : fallback;
+    }
+
+    private static boolean nextBoolean(JsonReader in, boolean fallback) throws IOException {
+        if (in.peek() == JsonToken.BOOLEAN) {
+            return in.nextBoolean();
+        }
+        in.skipValue();
+        return fallback;
+    }
+
+    private static void writeString(JsonWriter out, String name, @Nullable String value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    private static void writeNumber(JsonWriter out, String name, @Nullable Double value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    private static <T> void writeValue(JsonWriter out, String name, TypeAdapter<T> adapter, @Nullable T value)
+            throws IOException {
+        if (value != null) {
+            out.name(name);
+            adapter.write(out, value);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.rachio.internal.api.dto.CustomCrop;
+import org.openhab.binding.rachio.internal.api.dto.CustomNozzle;
+import org.openhab.binding.rachio.internal.api.dto.CustomShade;
+import org.openhab.binding.rachio.internal.api.dto.CustomSlope;
+import org.openhab.binding.rachio.internal.api.dto.CustomSoil;
+import org.openhab.binding.rachio.internal.api.dto.RachioAlert;
+import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
+import org.openhab.binding.rachio.internal.api.dto.RachioEventSummary;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecast;
+import org.openhab.binding.rachio.internal.api.dto.RachioPerson;
+import org.openhab.binding.rachio.internal.api.dto.RachioSavings;
+import org.openhab.binding.rachio.internal.api.dto.RachioSchedule;
+import org.openhab.binding.rachio.internal.api.dto.RachioUsage;
+import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The Gson instance shared by all Rachio API clients, with the hand-written DTO adapters registered and the
+ * response types resolved once. Gson caches the adapter of every type it has seen, so sharing one instance means
+ * each adapter is built once per binding instead of once per bridge.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioGson {
+
+    public static final Type DEVICE_LIST = listOf(RachioDevice.class);
+    public static final Type ZONE_LIST = listOf(RachioZone.class);
+    public static final Type SCHEDULE_LIST = listOf(RachioSchedule.class);
+    public static final Type ALERT_LIST = listOf(RachioAlert.class);
+    public static final Type CUSTOM_SOIL_LIST = listOf(CustomSoil.class);
+    public static final Type CUSTOM_CROP_LIST = listOf(CustomCrop.class);
+    public static final Type CUSTOM_NOZZLE_LIST = listOf(CustomNozzle.class);
+    public static final Type CUSTOM_SLOPE_LIST = listOf(CustomSlope.class);
+    public static final Type CUSTOM_SHADE_LIST = listOf(CustomShade.class);
+
+    /** Every type decoded from API responses, resolved by {@link #warmUp()} */
+    private static final Type[] RESPONSE_TYPES = { RachioPerson.class, RachioDevice.class, DEVICE_LIST, ZONE_LIST,
+            SCHEDULE_LIST, RachioForecast.class, RachioUsage.class, RachioSavings.class, RachioEventSummary.class,
+            ALERT_LIST, CUSTOM_SOIL_LIST, CUSTOM_CROP_LIST, CUSTOM_NOZZLE_LIST, CUSTOM_SLOPE_LIST,
+            CUSTOM_SHADE_LIST };
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RachioGson.class);
+
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantTypeAdapter())
+            .registerTypeAdapterFactory(new RachioDtoAdapterFactory()).create();
+
+    private static final AtomicBoolean WARMED_UP = new AtomicBoolean(false);
+
+    private static final Map<List<Object>, TypeAdapter<?>> PROJECTED_ADAPTERS = new ConcurrentHashMap<>();
+
+    private RachioGson() {
+    }
+
+    /**
+     * @return the shared Gson instance
+     */
+    public static Gson get() {
+        return GSON;
+    }
+
+    /**
+     * Get the adapter decoding only the fields of a projection, built on first use
+     *
+     * @param type person, device or zone
+     * @param projection fields to decode
+     * @return the adapter
+     * @throws IllegalArgumentException if the type does not support projections
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> getAdapter(Class<T> type, RachioProjection projection) {
+        return (TypeAdapter<T>) PROJECTED_ADAPTERS.computeIfAbsent(List.of(type, projection),
+                key -> RachioDtoAdapterFactory.createProjected(GSON, type, projection));
+    }
+
+    /**
+     * Build the adapters of all response types and decode a small person document once, so the first poll does
+     * not pay for reflection and class loading. Only the first call does any work.
+     */
+    public static void warmUp() {
+        if (!WARMED_UP.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (Type type : RESPONSE_TYPES) {
+            try {
+                GSON.getAdapter(TypeToken.get(type));
+            } catch (RuntimeException e) {
+                // The type is still usable, it fails again when a response of that type is decoded
+                LOGGER.debug("Cannot create Gson adapter for {}: {}", type.getTypeName(), e.getMessage());
+            }
+        }
+        GSON.fromJson("{\"id\":\"\",\"devices\":[{\"id\":\"\",\"zones\":[{\"id\":\"\",\"zoneNumber\":1}]}]}",
+                RachioPerson.class);
+        LOGGER.debug("Gson adapters prepared in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static Type listOf(Class<?> elementType) {
+        return TypeToken.getParameterized(List.class, elementType).getType();
+    }
+}
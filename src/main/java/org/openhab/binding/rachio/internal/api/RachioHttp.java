@@ -1,21 +1,41 @@
 package org.openhab.binding.rachio.internal.api;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.RachioBindingConstants;
+import org.openhab.binding.rachio.internal.api.RachioCircuitBreaker.EndpointFamily;
+import org.openhab.binding.rachio.internal.config.RachioConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * HTTP client for Rachio API
+ * HTTP client for Rachio API.
+ * One instance is created per bridge so every Rachio account keeps its own API key, rate limit
+ * state and callback. The underlying {@link HttpClient} (and its connection pool) is shared by all instances.
  *
  * @author Damion Boyett - Refactor
  */
@@ -23,9 +43,27 @@ import org.slf4j.LoggerFactory;
 public class RachioHttp {
     private static final Logger LOGGER = LoggerFactory.getLogger(RachioHttp.class);
 
-    private static String apiKey = "";
     private static final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
 
+    private final String apiKey;
+    private final RachioQuotaScheduler quotaScheduler = new RachioQuotaScheduler();
+    private volatile boolean compressResponses = true;
+    private volatile Duration apiTimeout = Duration.ofMillis(10000);
+    private volatile Duration callTimeout = Duration.ofSeconds(30);
+    private volatile RachioRetryPolicy retryPolicy = new RachioRetryPolicy(3, 1000);
+    private final RachioRequestDispatcher dispatcher = new RachioRequestDispatcher(10, 100);
+    private final RachioCircuitBreaker[] circuitBreakers;
+    private volatile RachioCircuitBreaker.@Nullable StateListener circuitBreakerListener;
+
+    // ===== Transfer counters: bytes received vs. bytes handed to the decoder after decompression =====
+    private final LongAdder bytesOnWire = new LongAdder();
+    private final LongAdder bytesDecoded = new LongAdder();
+
+    // ===== Rate limit state of this account, as last reported by the API =====
+    private volatile int rateLimitRemaining = -1;
+    private volatile int rateLimitLimit = RachioBindingConstants.MAX_RATE_LIMIT;
+    private volatile long rateLimitReset = 0;
+
     // ===== RATE LIMIT CALLBACK INTERFACE WITH THREAD SAFETY =====
     /**
      * Callback interface for rate limit updates.
@@ -35,8 +73,45 @@ public class RachioHttp {
         void onRateLimitUpdate(int remaining, int limit, long reset, String status);
     }
 
-    private static @Nullable RateLimitCallback rateLimitCallback = null;
-    private static final ReentrantLock callbackLock = new ReentrantLock();
+    /**
+     * Decoder reading a response body as it streams in
+     */
+    @FunctionalInterface
+    public interface ResponseDecoder<T> {
+        T decode(Reader reader) throws IOException;
+    }
+
+    private @Nullable RateLimitCallback rateLimitCallback = null;
+    private final ReentrantLock callbackLock = new ReentrantLock();
+
+    /**
+     * Create a client for one Rachio account
+     *
+     * @param apiKey Rachio API key used for all requests of this instance
+     */
+    public RachioHttp(String apiKey) {
+        this.apiKey = apiKey;
+        EndpointFamily[] families = EndpointFamily.values();
+        this.circuitBreakers = new RachioCircuitBreaker[families.length];
+        for (EndpointFamily family : families) {
+            circuitBreakers[family.ordinal()] = new RachioCircuitBreaker(family, this::onCircuitStateChanged);
+        }
+        LOGGER.debug("Rachio HTTP client created (API key length: {})", apiKey.length());
+    }
+
+    /**
+     * Apply the binding configuration to this client
+     *
+     * @param config binding configuration
+     */
+    public void configure(RachioConfiguration config) {
+        compressResponses = config.shouldCompressResponses();
+        retryPolicy = new RachioRetryPolicy(config.getEffectiveApiRetryCount(), config.getEffectiveApiRetryDelay());
+        dispatcher.setLimits(config.getEffectiveMaxConcurrentRequests(), config.getEffectiveRequestQueueSize());
+        apiTimeout = Duration.ofMillis(config.getEffectiveApiTimeout());
+        LOGGER.debug("Response compression {}, {} retries", compressResponses ? "enabled" : "disabled",
+                config.getEffectiveApiRetryCount());
+    }
 
     /**
      * Set the callback for rate limit updates.
@@ -44,7 +119,7 @@ public class RachioHttp {
      * 
      * @param callback The callback implementation
      */
-    public static void setRateLimitCallback(@Nullable RateLimitCallback callback) {
+    public void setRateLimitCallback(@Nullable RateLimitCallback callback) {
         callbackLock.lock();
         try {
             rateLimitCallback = callback;
@@ -59,7 +134,7 @@ public class RachioHttp {
      * 
      * @return The current callback or null
      */
-    private static @Nullable RateLimitCallback getRateLimitCallback() {
+    private @Nullable RateLimitCallback getRateLimitCallback() {
         callbackLock.lock();
         try {
             return rateLimitCallback;
@@ -69,13 +144,75 @@ public class RachioHttp {
     }
 
     /**
-     * Set the API key for all HTTP requests
-     * 
-     * @param key Rachio API key
+     * Set how long a call may take in total (queueing, attempts and retries) when the caller gives no deadline
+     *
+     * @param timeout the default call timeout
+     */
+    public void setCallTimeout(Duration timeout) {
+        this.callTimeout = timeout;
+    }
+
+    /**
+     * Set the listener for circuit breaker state changes of this account
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void setCircuitBreakerListener(RachioCircuitBreaker.@Nullable StateListener listener) {
+        this.circuitBreakerListener = listener;
+    }
+
+    /**
+     * @param family endpoint family
+     * @return the current circuit state of the family
      */
-    public static void setApiKey(String key) {
-        apiKey = key;
-        LOGGER.debug("Rachio API key set (length: {})", key.length());
+    public RachioCircuitBreaker.State getCircuitState(EndpointFamily family) {
+        return getCircuitBreaker(family).getState();
+    }
+
+    private RachioCircuitBreaker getCircuitBreaker(EndpointFamily family) {
+        return circuitBreakers[family.ordinal()];
+    }
+
+    private void onCircuitStateChanged(EndpointFamily family, RachioCircuitBreaker.State state) {
+        RachioCircuitBreaker.StateListener listener = circuitBreakerListener;
+        if (listener != null) {
+            listener.onStateChanged(family, state);
+        }
+    }
+
+    /**
+     * @return the dispatcher bounding concurrent and queued requests of this account
+     */
+    public RachioRequestDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * @return the quota scheduler guarding the rate limit budget of this account
+     */
+    public RachioQuotaScheduler getQuotaScheduler() {
+        return quotaScheduler;
+    }
+
+    /**
+     * @return API calls remaining for this account, or -1 if no response carried rate limit headers yet
+     */
+    public int getRateLimitRemaining() {
+        return rateLimitRemaining;
+    }
+
+    /**
+     * @return API call limit for this account
+     */
+    public int getRateLimitLimit() {
+        return rateLimitLimit;
+    }
+
+    /**
+     * @return seconds until the rate limit of this account resets, as last reported
+     */
+    public long getRateLimitReset() {
+        return rateLimitReset;
     }
 
     /**
@@ -85,8 +222,8 @@ public class RachioHttp {
      * @return Response body
      * @throws RachioApiException if the request fails
      */
-    public static String get(String endpoint) throws RachioApiException {
-        return makeRequest("GET", endpoint, null);
+    public String get(String endpoint) throws RachioApiException {
+        return await(getAsync(endpoint));
     }
 
     /**
@@ -96,8 +233,8 @@ public class RachioHttp {
      * @param body Request body (JSON string)
      * @throws RachioApiException if the request fails
      */
-    public static void put(String endpoint, String body) throws RachioApiException {
-        makeRequest("PUT", endpoint, body);
+    public void put(String endpoint, String body) throws RachioApiException {
+        await(putAsync(endpoint, body));
     }
 
     /**
@@ -108,8 +245,8 @@ public class RachioHttp {
      * @return Response body
      * @throws RachioApiException if the request fails
      */
-    public static String post(String endpoint, String body) throws RachioApiException {
-        return makeRequest("POST", endpoint, body);
+    public String post(String endpoint, String body) throws RachioApiException {
+        return await(postAsync(endpoint, body));
     }
 
     /**
@@ -118,24 +255,306 @@ public class RachioHttp {
      * @param endpoint API endpoint (without base URL)
      * @throws RachioApiException if the request fails
      */
-    public static void delete(String endpoint) throws RachioApiException {
-        makeRequest("DELETE", endpoint, null);
+    public void delete(String endpoint) throws RachioApiException {
+        await(deleteAsync(endpoint));
+    }
+
+    /**
+     * Make a non-blocking GET request to the Rachio API with {@link RachioRequestPriority#STATUS} priority
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @return Future completing with the response body, or exceptionally with a {@link RachioApiException}
+     */
+    public CompletableFuture<String> getAsync(String endpoint) {
+        return getAsync(endpoint, RachioRequestPriority.STATUS);
+    }
+
+    /**
+     * Make a non-blocking GET request to the Rachio API
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @param priority priority class used by the quota scheduler
+     * @return Future completing with the response body, or exceptionally with a {@link RachioApiException}
+     */
+    public CompletableFuture<String> getAsync(String endpoint, RachioRequestPriority priority) {
+        return makeRequestAsync("GET", endpoint, null, priority, RachioHttp::readFully, null);
+    }
+
+    /**
+     * Make a non-blocking GET request and decode the body while it streams in.
+     * The decoder reads straight from the response stream, so the payload is never held as one String.
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @param priority priority class used by the quota scheduler
+     * @param decoder decoder for the response body
+     * @return Future completing with the decoded body
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, RachioRequestPriority priority,
+            ResponseDecoder<T> decoder) {
+        return getAsync(endpoint, priority, decoder, null);
+    }
+
+    /**
+     * Make a non-blocking GET request with a caller deadline and decode the body while it streams in.
+     * The deadline covers queueing, all attempts and the waits between them.
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @param priority priority class used by the quota scheduler
+     * @param decoder decoder for the response body
+     * @param deadline point in time after which the caller no longer waits, or null for the bridge timeout
+     * @return Future completing with the decoded body
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, RachioRequestPriority priority,
+            ResponseDecoder<T> decoder, @Nullable Instant deadline) {
+        return makeRequestAsync("GET", endpoint, null, priority, decoder, deadline);
+    }
+
+    /**
+     * Make a non-blocking PUT request to the Rachio API
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @param body Request body (JSON string)
+     * @return Future completing when the request succeeded
+     */
+    public CompletableFuture<Void> putAsync(String endpoint, String body) {
+        return makeRequestAsync("PUT", endpoint, body, RachioRequestPriority.COMMAND, RachioHttp::readFully, null)
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Make a non-blocking POST request to the Rachio API
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @param body Request body (JSON string)
+     * @return Future completing with the response body
+     */
+    public CompletableFuture<String> postAsync(String endpoint, String body) {
+        return makeRequestAsync("POST", endpoint, body, RachioRequestPriority.COMMAND, RachioHttp::readFully, null);
+    }
+
+    /**
+     * Make a non-blocking DELETE request to the Rachio API
+     *
+     * @param endpoint API endpoint (without base URL)
+     * @return Future completing when the request succeeded
+     */
+    public CompletableFuture<Void> deleteAsync(String endpoint) {
+        return makeRequestAsync("DELETE", endpoint, null, RachioRequestPriority.COMMAND, RachioHttp::readFully, null)
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Wait for an asynchronous API call and unwrap its failure.
+     * Used by the blocking wrappers so callers keep seeing {@link RachioApiException}.
+     *
+     * @param future the pending API call
+     * @return the result of the call
+     * @throws RachioApiException if the call failed or the waiting thread was interrupted
+     */
+    static <T> T await(CompletableFuture<T> future) throws RachioApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RachioApiException("Request interrupted: " + e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw RachioApiException.from(e.getCause());
+        } catch (CancellationException e) {
+            throw new RachioApiException("Request cancelled", e);
+        }
     }
 
     /**
      * ===== Core HTTP request implementation =====
-     * Make an HTTP request to the Rachio API
+     * Make an asynchronous HTTP request to the Rachio API.
+     * The request is sent with {@link HttpClient#sendAsync}, so no caller thread is held while
+     * waiting for the Rachio cloud; the returned future completes on the HTTP client's executor.
+     * The body is consumed as a stream and handed to the decoder as it arrives.
      *
      * @param method HTTP method (GET, PUT, POST, DELETE)
      * @param endpoint API endpoint
      * @param body Request body (null for GET and DELETE)
-     * @return Response body for GET and POST, empty string for PUT and DELETE
-     * @throws RachioApiException if the request fails
+     * @param priority priority class used by the quota scheduler
+     * @param decoder decoder for the response body of GET and POST
+     * @return Future with the decoded body for GET and POST, null for PUT and DELETE
+     */
+    private <T> CompletableFuture<T> makeRequestAsync(String method, String endpoint, @Nullable String body,
+            RachioRequestPriority priority, ResponseDecoder<T> decoder, @Nullable Instant deadline) {
+        RachioCircuitBreaker breaker = getCircuitBreaker(EndpointFamily.of(endpoint));
+        if (!breaker.allowRequest()) {
+            return CompletableFuture.failedFuture(new RachioApiException("Rachio API circuit for "
+                    + breaker.getFamily() + " endpoints is open, request to " + endpoint + " not sent"));
+        }
+
+        if (!quotaScheduler.tryAcquire(priority)) {
+            breaker.onAbandoned();
+            return CompletableFuture.failedFuture(new RachioApiException(
+                    "Rate limit budget exhausted, " + priority + " request to " + endpoint + " not sent"));
+        }
+
+        Instant effectiveDeadline = deadline != null ? deadline : Instant.now().plus(callTimeout);
+        CompletableFuture<T> result = applyDeadline(new CompletableFuture<>(), effectiveDeadline, endpoint);
+        sendAttempt(method, endpoint, body, priority, decoder, breaker, effectiveDeadline, 1, result);
+        return result;
+    }
+
+    /**
+     * Send one attempt of a request. Transient failures are retried according to the {@link RachioRetryPolicy};
+     * every retry needs a new permit from the quota scheduler, so retries count against the budget.
+     * No retry is started that could not finish before the deadline.
+     *
+     * @param method HTTP method
+     * @param endpoint API endpoint
+     * @param body Request body (null for GET and DELETE)
+     * @param priority priority class used by the quota scheduler
+     * @param decoder decoder for the response body
+     * @param breaker circuit breaker of the endpoint family
+     * @param deadline point in time after which the caller no longer waits
+     * @param attempt number of this attempt, starting at 1
+     * @param result future to complete with the final outcome
+     */
+    private <T> void sendAttempt(String method, String endpoint, @Nullable String body,
+            RachioRequestPriority priority, ResponseDecoder<T> decoder, RachioCircuitBreaker breaker,
+            Instant deadline, int attempt, CompletableFuture<T> result) {
+        // The dispatcher slot is held until the body has been decoded or the attempt timed out
+        CompletableFuture<T> attemptFuture = dispatcher.submit(priority, () -> {
+            if (result.isDone()) {
+                // Deadline passed or cancelled while queued
+                return CompletableFuture.failedFuture(new CancellationException("Request dropped from queue"));
+            }
+            Duration timeout = getAttemptTimeout(priority, deadline);
+            HttpRequest request;
+            try {
+                request = buildRequest(method, endpoint, body, timeout);
+            } catch (RachioApiException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<HttpResponse<InputStream>> exchange = httpClient.sendAsync(request,
+                    HttpResponse.BodyHandlers.ofInputStream());
+            CompletableFuture<T> decoded = exchange
+                    .thenApply(response -> decodeResponse(method, endpoint, response, decoder))
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            // Abort an exchange still waiting for the response when the attempt times out or is cancelled
+            decoded.whenComplete((value, error) -> {
+                if (error != null) {
+                    exchange.cancel(true);
+                }
+            });
+            return decoded;
+        });
+        // A deadline or cancellation of the call ends the running attempt and frees its dispatcher slot
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                attemptFuture.cancel(true);
+            }
+        });
+        attemptFuture.whenComplete((decoded, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+                result.complete(decoded);
+                return;
+            }
+
+            RachioApiException failure = translateError(endpoint, error);
+            if (failure instanceof RachioQueueFullException || result.isDone()) {
+                // Never sent or nobody waiting any more, so it says nothing about the backend
+                breaker.onAbandoned();
+                result.completeExceptionally(failure);
+                return;
+            }
+            breaker.onFailure(failure);
+
+            // PUT and POST trigger actions such as zone starts; only GET and DELETE can be repeated blindly
+            boolean idempotent = "GET".equals(method) || "DELETE".equals(method);
+            long delay = retryPolicy.getRetryDelay(attempt, failure, rateLimitReset, idempotent);
+            if (delay < 0 || Instant.now().plusMillis(delay).isAfter(deadline)) {
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            LOGGER.debug("Attempt {} for {} failed ({}), retrying in {} ms", attempt, endpoint, failure.getMessage(),
+                    delay);
+            RachioApiException lastFailure = failure;
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> {
+                if (result.isDone()) {
+                    // Cancelled by the caller or deadline passed while waiting
+                    return;
+                }
+                if (!breaker.allowRequest()) {
+                    LOGGER.debug("Circuit for {} opened, not retrying {}", breaker.getFamily(), endpoint);
+                    result.completeExceptionally(lastFailure);
+                    return;
+                }
+                if (!quotaScheduler.tryAcquire(priority)) {
+                    LOGGER.debug("No budget left to retry {}", endpoint);
+                    breaker.onAbandoned();
+                    result.completeExceptionally(lastFailure);
+                    return;
+                }
+                sendAttempt(method, endpoint, body, priority, decoder, breaker, deadline, attempt + 1, result);
+            });
+        });
+    }
+
+    /**
+     * Timeout of a single attempt: the timeout of the endpoint class, cut short by the caller's deadline.
+     * Background reads (forecast, usage, savings) return the largest payloads and get twice the API timeout.
+     *
+     * @param priority priority class of the request
+     * @param deadline deadline of the whole call
+     * @return the attempt timeout
      */
-    private static String makeRequest(String method, String endpoint, @Nullable String body) throws RachioApiException {
+    private Duration getAttemptTimeout(RachioRequestPriority priority, Instant deadline) {
+        Duration classTimeout = priority == RachioRequestPriority.BACKGROUND ? apiTimeout.multipliedBy(2)
+                : apiTimeout;
+        Duration left = Duration.between(Instant.now(), deadline);
+        if (left.compareTo(classTimeout) < 0) {
+            return left.toMillis() > 0 ? left : Duration.ofMillis(1);
+        }
+        return classTimeout;
+    }
+
+    /**
+     * Fail a future with a {@link RachioApiException} once a deadline has passed, unless it completed before
+     *
+     * @param future the future to guard
+     * @param deadline point in time after which the caller no longer waits, or null for no deadline
+     * @param endpoint API endpoint, for the error message
+     * @return the same future
+     */
+    public static <T> CompletableFuture<T> applyDeadline(CompletableFuture<T> future, @Nullable Instant deadline,
+            String endpoint) {
+        if (deadline == null || future.isDone()) {
+            return future;
+        }
+        long remaining = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+        CompletableFuture<@Nullable Void> timer = new CompletableFuture<@Nullable Void>().orTimeout(remaining,
+                TimeUnit.MILLISECONDS);
+        timer.whenComplete((ignored, error) -> {
+            if (error instanceof TimeoutException) {
+                future.completeExceptionally(new RachioApiException("Deadline exceeded for " + endpoint));
+            }
+        });
+        // Completing the timer cancels its scheduled task, so calls that finish early leave no timer behind
+        future.whenComplete((value, error) -> timer.complete(null));
+        return future;
+    }
 
+    /**
+     * Build the HTTP request for an API call
+     *
+     * @param method HTTP method (GET, PUT, POST, DELETE)
+     * @param endpoint API endpoint
+     * @param body Request body (null for GET and DELETE)
+     * @param timeout time to wait for the response headers
+     * @return the request
+     * @throws RachioApiException if the API key is missing or the request is invalid
+     */
+    private HttpRequest buildRequest(String method, String endpoint, @Nullable String body, Duration timeout)
+            throws RachioApiException {
         if (apiKey.isEmpty()) {
-            throw new RachioApiException("Rachio API key not set. Call setApiKey() first.");
+            throw new RachioApiException("Rachio API key not set");
         }
 
         // Build full URL
@@ -144,9 +563,12 @@ public class RachioHttp {
 
         try {
             // Build request
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder().uri(URI.create(url))
+            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder().uri(URI.create(url)).timeout(timeout)
                     .header("Authorization", RachioBindingConstants.RACHIO_AUTH_BEARER_PREFIX + apiKey)
                     .header("Content-Type", "application/json").header("Accept", "application/json");
+            if (compressResponses) {
+                requestBuilder.header("Accept-Encoding", "gzip, deflate");
+            }
 
             // Add method-specific configuration
             switch (method) {
@@ -174,54 +596,203 @@ public class RachioHttp {
                     throw new RachioApiException("Unsupported HTTP method: " + method);
             }
 
-            HttpRequest request = requestBuilder.build();
-
-            // Send request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Check response status
-            int statusCode = response.statusCode();
-            LOGGER.debug("Response status: {} for {}", statusCode, endpoint);
+            return requestBuilder.build();
+        } catch (IllegalArgumentException e) {
+            throw new RachioApiException("Invalid URL or request for " + endpoint + ": " + e.getMessage(), e);
+        }
+    }
 
-            // Handle rate limiting headers
-            handleRateLimitHeaders(response);
+    /**
+     * Check the response status and decode the body
+     *
+     * @param method HTTP method of the request
+     * @param endpoint API endpoint
+     * @param response HTTP response with the still unread body
+     * @param decoder decoder for the response body of GET and POST
+     * @return Decoded body for GET and POST, null for PUT and DELETE
+     * @throws RachioApiException if the API returned an error status or the body could not be read
+     */
+    @SuppressWarnings("null")
+    private <T> T processResponse(String method, String endpoint, HttpResponse<InputStream> response,
+            ResponseDecoder<T> decoder) throws RachioApiException {
+        // Check response status
+        int statusCode = response.statusCode();
+        LOGGER.debug("Response status: {} for {}", statusCode, endpoint);
+
+        // Handle rate limiting headers
+        handleRateLimitHeaders(response);
+
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("identity");
+        if (statusCode == 204 || "0".equals(response.headers().firstValue("Content-Length").orElse(""))) {
+            // No body to inflate; a gzip stream would fail reading its header
+            encoding = "identity";
+        }
+        try (CountingInputStream wire = new CountingInputStream(response.body());
+                CountingInputStream decoded = new CountingInputStream(decompress(wire, encoding));
+                Reader reader = new InputStreamReader(decoded, StandardCharsets.UTF_8)) {
+            try {
+                // Check for errors
+                if (statusCode >= 400) {
+                    String responseBody = readFully(reader);
+                    long retryAfter = RachioRetryPolicy
+                            .parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null));
+                    throw new RachioApiException("Request failed for " + endpoint, statusCode, null, null,
+                            responseBody).withRetryAfterMillis(retryAfter);
+                }
 
-            // Check for errors
-            if (statusCode >= 400) {
-                String errorMessage = "HTTP " + statusCode + " for " + endpoint;
-                String responseBody = response.body();
-                if (!responseBody.isEmpty()) {
-                    errorMessage += ": " + responseBody;
+                // Decode response body for GET and POST
+                if ("GET".equals(method) || "POST".equals(method)) {
+                    return decoder.decode(reader);
                 }
 
-                throw new RachioApiException(errorMessage);
+                return null;
+            } finally {
+                bytesOnWire.add(wire.getCount());
+                bytesDecoded.add(decoded.getCount());
+                LOGGER.trace("Response for {}: {} bytes on wire, {} bytes decoded ({})", endpoint, wire.getCount(),
+                        decoded.getCount(), encoding);
             }
+        } catch (IOException e) {
+            throw new RachioApiException("Error reading response for " + endpoint + ": " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            // Gson reports malformed JSON with unchecked exceptions
+            throw new RachioApiException("Invalid response for " + endpoint + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Wrap the response body in a streaming decompressor matching its Content-Encoding
+     *
+     * @param body raw response body
+     * @param encoding value of the Content-Encoding header
+     * @return the decompressed stream
+     * @throws IOException if the compressed stream header is invalid
+     */
+    private static InputStream decompress(InputStream body, String encoding) throws IOException {
+        switch (encoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body, 8192);
+            case "deflate":
+                return new InflaterInputStream(body);
+            default:
+                return body;
+        }
+    }
 
-            // Return response body for GET and POST
-            if ("GET".equals(method) || "POST".equals(method)) {
-                return response.body();
+    /**
+     * @return total response bytes received from the network by this account
+     */
+    public long getBytesOnWire() {
+        return bytesOnWire.sum();
+    }
 
+    /**
+     * @return total response bytes after decompression, as seen by the JSON decoder
+     */
+    public long getBytesDecoded() {
+        return bytesDecoded.sum();
+    }
+
+    /**
+     * Input stream counting the bytes read through it
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
             }
+            return b;
+        }
 
-            return "";
+        @Override
+        public int read(byte @Nullable [] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
 
-        } catch (IOException e) {
-            throw new RachioApiException("Network error for " + endpoint + ": " + e.getMessage(), e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RachioApiException("Request interrupted for " + endpoint + ": " + e.getMessage(), e);
-        } catch (IllegalArgumentException e) {
-            throw new RachioApiException("Invalid URL or request for " + endpoint + ": " + e.getMessage(), e);
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * {@link #processResponse} for use inside a future chain
+     */
+    private <T> T decodeResponse(String method, String endpoint, HttpResponse<InputStream> response,
+            ResponseDecoder<T> decoder) {
+        try {
+            return processResponse(method, endpoint, response, decoder);
+        } catch (RachioApiException e) {
+            throw new CompletionException(e);
         }
     }
 
+    /**
+     * Read a response body completely into a String
+     *
+     * @param reader response body
+     * @return the body text
+     * @throws IOException if reading failed
+     */
+    private static String readFully(Reader reader) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            builder.append(buffer, 0, read);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Map a transport failure reported by the HTTP client to a {@link RachioApiException}
+     *
+     * @param endpoint API endpoint
+     * @param error failure reported by {@link HttpClient#sendAsync}
+     * @return the translated exception
+     */
+    private static RachioApiException translateError(String endpoint, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RachioApiException) {
+            return (RachioApiException) cause;
+        } else if (cause instanceof TimeoutException) {
+            // The attempt timed out while reading the body; treat it like the client's own request timeout
+            return new RachioApiException("Network error for " + endpoint + ": timed out",
+                    new HttpTimeoutException("Response not completed in time"));
+        } else if (cause instanceof IOException) {
+            return new RachioApiException("Network error for " + endpoint + ": " + cause.getMessage(), cause);
+        } else if (cause instanceof CancellationException) {
+            return new RachioApiException("Request cancelled for " + endpoint, cause);
+        }
+        return new RachioApiException("Request failed for " + endpoint + ": " + cause.getMessage(), cause);
+    }
+
     /**
      * ===== Rate limiting header handling with thread-safe callback support =====
      * Extract and log rate limit information from response headers
      *
      * @param response HTTP response
      */
-    private static void handleRateLimitHeaders(HttpResponse<String> response) {
+    private void handleRateLimitHeaders(HttpResponse<?> response) {
         // Get rate limit headers
         java.util.Optional<String> remainingOpt = response.headers()
                 .firstValue(RachioBindingConstants.HEADER_RATE_LIMIT_REMAINING);
@@ -287,6 +858,11 @@ public class RachioHttp {
 
         // ===== Thread-safe callback notification =====
         if (remaining >= 0) { // Only notify if we successfully parsed remaining
+            rateLimitRemaining = remaining;
+            rateLimitLimit = limit;
+            rateLimitReset = resetSeconds;
+            quotaScheduler.update(remaining, limit, resetSeconds);
+
             RateLimitCallback callback = getRateLimitCallback();
             if (callback != null) {
                 try {
@@ -308,7 +884,7 @@ public class RachioHttp {
      *
      * @return true if connection successful
      */
-    public static boolean testConnection() {
+    public boolean testConnection() {
         try {
             // Simple GET request to person endpoint to test connection
             get(RachioBindingConstants.API_PERSON_ENDPOINT);
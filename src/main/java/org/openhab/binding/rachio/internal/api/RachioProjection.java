@@ -0,0 +1,112 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The set of JSON fields a caller needs from a response, so the decoder can skip everything else.
+ * Written as a comma separated field list where an object or array of objects may be narrowed with brackets,
+ * e.g. {@code devices[id,status,paused,zones[id,enabled,runtime]]}. A field without brackets is decoded whole.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioProjection {
+
+    private final Map<String, @Nullable RachioProjection> fields;
+
+    private RachioProjection(Map<String, @Nullable RachioProjection> fields) {
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Parse a projection
+     *
+     * @param spec field list, e.g. {@code id,name,zones[id,enabled]}
+     * @return the projection
+     * @throws IllegalArgumentException if the field list is malformed
+     */
+    public static RachioProjection parse(String spec) {
+        int[] pos = { 0 };
+        RachioProjection projection = parseList(spec, pos);
+        if (pos[0] != spec.length()) {
+            throw new IllegalArgumentException("Unexpected '" + spec.charAt(pos[0]) + "' at " + pos[0] + ": " + spec);
+        }
+        return projection;
+    }
+
+    private static RachioProjection parseList(String spec, int[] pos) {
+        Map<String, @Nullable RachioProjection> fields = new LinkedHashMap<>();
+        while (true) {
+            int start = pos[0];
+            while (pos[0] < spec.length() && ",[]".indexOf(spec.charAt(pos[0])) < 0) {
+                pos[0]++;
+            }
+            String name = spec.substring(start, pos[0]).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Missing field name at " + start + ": " + spec);
+            }
+            RachioProjection nested = null;
+            if (pos[0] < spec.length() && spec.charAt(pos[0]) == '[') {
+                pos[0]++;
+                nested = parseList(spec, pos);
+                if (pos[0] >= spec.length() || spec.charAt(pos[0]) != ']') {
+                    throw new IllegalArgumentException("Missing ']' for field " + name + ": " + spec);
+                }
+                pos[0]++;
+            }
+            fields.put(name, nested);
+            if (pos[0] < spec.length() && spec.charAt(pos[0]) == ',') {
+                pos[0]++;
+            } else {
+                return new RachioProjection(fields);
+            }
+        }
+    }
+
+    /**
+     * @param name JSON field name
+     * @return true if the field is part of the projection
+     */
+    public boolean includes(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * @param name JSON field name
+     * @return the projection of a nested object, or null if the field is decoded whole or not included
+     */
+    public @Nullable RachioProjection get(String name) {
+        return fields.get(name);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return this == obj || (obj instanceof RachioProjection && fields.equals(((RachioProjection) obj).fields));
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, @Nullable RachioProjection> field : fields.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(field.getKey());
+            RachioProjection nested = field.getValue();
+            if (nested != null) {
+                builder.append('[').append(nested).append(']');
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package org.openhab.binding.rachio.internal.api;
+
+/**
+ * Thrown when a request is rejected because the request queue of the account is full
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+public class RachioQueueFullException extends RachioApiException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int queueDepth;
+
+    public RachioQueueFullException(String message, int queueDepth) {
+        super(message);
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Get the number of queued requests at the time of rejection
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+}
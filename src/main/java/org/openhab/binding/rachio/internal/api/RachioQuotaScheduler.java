@@ -0,0 +1,222 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.rachio.internal.RachioBindingConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client-side quota scheduler for one Rachio account.
+ * Two token buckets spread the remaining daily call budget evenly over the time left until the rate limit
+ * resets. The budget is shared between status and background calls in proportion to the calls of each class one
+ * polling cycle costs (see {@link #setCallMix(int, int)}), and each bucket holds enough tokens for a few cycles,
+ * so the refreshes at startup fit into the burst. Every call must acquire a permit for its
+ * {@link RachioRequestPriority}:
+ * <ul>
+ * <li>{@link RachioRequestPriority#COMMAND} is granted as long as any call is left, borrowing from the status
+ * bucket</li>
+ * <li>{@link RachioRequestPriority#STATUS} needs a status token, or else a background token, and must leave the
+ * critical reserve (2%) for commands</li>
+ * <li>{@link RachioRequestPriority#BACKGROUND} needs a background token and must leave the warning reserve
+ * (10%)</li>
+ * </ul>
+ * The estimate is corrected from the X-RateLimit headers of every response.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioQuotaScheduler {
+
+    private static final double MIN_BURST = 10.0;
+    private static final int BURST_CYCLES = 2;
+    private static final int MAX_POLLING_INTERVAL = 3600; // seconds
+    private static final int POLLING_INTERVAL_STEP = 30; // seconds
+
+    private final Logger logger = LoggerFactory.getLogger(RachioQuotaScheduler.class);
+
+    private int limit = RachioBindingConstants.MAX_RATE_LIMIT;
+    private int remaining = RachioBindingConstants.MAX_RATE_LIMIT;
+    private long resetAtMillis;
+    private double statusShare;
+    private double statusCapacity;
+    private double backgroundCapacity;
+    private double statusTokens;
+    private double backgroundTokens;
+    private long lastRefillMillis;
+    private final Map<RachioRequestPriority, Long> shedCounts = new EnumMap<>(RachioRequestPriority.class);
+    private final LongSupplier clock;
+
+    public RachioQuotaScheduler() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock source of the current time in epoch milliseconds
+     */
+    RachioQuotaScheduler(LongSupplier clock) {
+        this.clock = clock;
+        long now = clock.getAsLong();
+        resetAtMillis = nextUtcMidnight(now);
+        lastRefillMillis = now;
+        // One device until told otherwise: the poll and a device refresh, savings and forecast
+        setCallMix(2, 2);
+    }
+
+    /**
+     * Share the budget according to the calls one polling cycle costs
+     *
+     * @param statusCalls status calls per cycle, including the poll
+     * @param backgroundCalls background calls per cycle
+     */
+    public synchronized void setCallMix(int statusCalls, int backgroundCalls) {
+        refill(clock.getAsLong());
+        int status = Math.max(1, statusCalls);
+        int background = Math.max(0, backgroundCalls);
+        statusShare = status / (double) (status + background);
+        double newStatusCapacity = Math.max(MIN_BURST, BURST_CYCLES * status);
+        double newBackgroundCapacity = background > 0 ? Math.max(MIN_BURST, BURST_CYCLES * background) : 0;
+        // A grown bucket starts with its extra tokens, so the refreshes of newly added things are not shed
+        statusTokens = Math.min(newStatusCapacity, statusTokens + Math.max(0, newStatusCapacity - statusCapacity));
+        backgroundTokens = Math.min(newBackgroundCapacity,
+                backgroundTokens + Math.max(0, newBackgroundCapacity - backgroundCapacity));
+        statusCapacity = newStatusCapacity;
+        backgroundCapacity = newBackgroundCapacity;
+    }
+
+    /**
+     * Try to take a permit for one API call
+     *
+     * @param priority priority class of the call
+     * @return true if the call may be sent, false if it must be shed to protect higher priorities
+     */
+    public synchronized boolean tryAcquire(RachioRequestPriority priority) {
+        refill(clock.getAsLong());
+
+        boolean granted = false;
+        switch (priority) {
+            case COMMAND:
+                if (remaining > 0) {
+                    // Commands may borrow from the bucket; the debt slows down status calls afterwards
+                    statusTokens = Math.max(statusTokens - 1.0, -statusCapacity);
+                    granted = true;
+                }
+                break;
+            case STATUS:
+                if (remaining > getCommandReserve()) {
+                    if (statusTokens >= 1.0) {
+                        statusTokens -= 1.0;
+                        granted = true;
+                    } else if (backgroundTokens >= 1.0) {
+                        // Status outranks background, so it may use the background share
+                        backgroundTokens -= 1.0;
+                        granted = true;
+                    }
+                }
+                break;
+            case BACKGROUND:
+            default:
+                if (remaining > getBackgroundReserve() && backgroundTokens >= 1.0) {
+                    backgroundTokens -= 1.0;
+                    granted = true;
+                }
+                break;
+        }
+
+        if (granted) {
+            remaining--;
+        } else {
+            long count = shedCounts.merge(priority, 1L, Long::sum);
+            logger.debug("Shedding {} request ({} calls left, {}/{} tokens, shed so far: {})", priority, remaining,
+                    String.format("%.1f", statusTokens), String.format("%.1f", backgroundTokens), count);
+        }
+        return granted;
+    }
+
+    /**
+     * Correct the estimate from the rate limit headers of a response
+     *
+     * @param remaining calls remaining as reported by the API
+     * @param limit call limit as reported by the API
+     * @param resetSeconds seconds until the limit resets, or 0 if unknown
+     */
+    public synchronized void update(int remaining, int limit, long resetSeconds) {
+        long now = clock.getAsLong();
+        refill(now);
+        this.remaining = remaining;
+        this.limit = limit > 0 ? limit : RachioBindingConstants.MAX_RATE_LIMIT;
+        if (resetSeconds > 0) {
+            this.resetAtMillis = now + resetSeconds * 1000;
+        }
+    }
+
+    /**
+     * Calculate the polling interval the remaining budget can sustain until the next reset
+     *
+     * @param configuredInterval polling interval configured by the user in seconds (lower bound)
+     * @param callsPerPoll number of API calls one polling cycle costs, including the refreshes of the handlers
+     * @return polling interval in seconds
+     */
+    public synchronized int getRecommendedPollingInterval(int configuredInterval, int callsPerPoll) {
+        long now = clock.getAsLong();
+        refill(now);
+
+        long budget = Math.max(1, remaining - getCommandReserve());
+        long secondsToReset = Math.max(1, (resetAtMillis - now) / 1000);
+        long needed = secondsToReset * Math.max(1, callsPerPoll) / budget;
+        // Round up to whole steps so small changes in the budget do not restart polling every time
+        long rounded = ((needed + POLLING_INTERVAL_STEP - 1) / POLLING_INTERVAL_STEP) * POLLING_INTERVAL_STEP;
+        return (int) Math.max(configuredInterval, Math.min(rounded, MAX_POLLING_INTERVAL));
+    }
+
+    /**
+     * @return estimated calls remaining in the current window
+     */
+    public synchronized int getEstimatedRemaining() {
+        refill(clock.getAsLong());
+        return remaining;
+    }
+
+    /**
+     * @param priority priority class
+     * @return number of calls of this class shed since start
+     */
+    public synchronized long getShedCount(RachioRequestPriority priority) {
+        return shedCounts.getOrDefault(priority, 0L);
+    }
+
+    private void refill(long now) {
+        if (now >= resetAtMillis) {
+            // Window rolled over without a response telling us; assume a fresh daily budget
+            remaining = limit;
+            resetAtMillis = nextUtcMidnight(now);
+            statusTokens = statusCapacity;
+            backgroundTokens = backgroundCapacity;
+        } else {
+            long secondsToReset = Math.max(1, (resetAtMillis - now) / 1000);
+            double ratePerSecond = Math.max(0, remaining - getCommandReserve()) / (double) secondsToReset;
+            double added = ratePerSecond * (now - lastRefillMillis) / 1000.0;
+            statusTokens = Math.min(statusCapacity, statusTokens + added * statusShare);
+            backgroundTokens = Math.min(backgroundCapacity, backgroundTokens + added * (1 - statusShare));
+        }
+        lastRefillMillis = now;
+    }
+
+    private int getCommandReserve() {
+        return limit * 2 / 100;
+    }
+
+    private int getBackgroundReserve() {
+        return limit * 10 / 100;
+    }
+
+    private static long nextUtcMidnight(long now) {
+        return Instant.ofEpochMilli(now).atZone(ZoneOffset.UTC).toLocalDate().plusDays(1).atStartOfDay(ZoneOffset.UTC)
+                .toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,206 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatcher limiting the number of concurrent requests of one account.
+ * Requests beyond the in-flight limit wait in a bounded queue, served by priority class and in arrival order
+ * within a class. When the queue is full new requests are rejected with a {@link RachioQueueFullException}.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioRequestDispatcher {
+
+    private final Logger logger = LoggerFactory.getLogger(RachioRequestDispatcher.class);
+
+    private final Deque<Pending<?>>[] queues;
+    private int maxInFlight;
+    private int queueCapacity;
+    private int inFlight = 0;
+    private int queued = 0;
+
+    // ===== Metrics =====
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * A request waiting for a free slot
+     */
+    private static class Pending<T> {
+        final Supplier<CompletableFuture<T>> task;
+        final CompletableFuture<T> result;
+        final long enqueuedAt = System.nanoTime();
+
+        Pending(Supplier<CompletableFuture<T>> task, CompletableFuture<T> result) {
+            this.task = task;
+            this.result = result;
+        }
+    }
+
+    /**
+     * @param maxInFlight maximum number of requests sent concurrently
+     * @param queueCapacity maximum number of waiting requests
+     */
+    @SuppressWarnings("unchecked")
+    public RachioRequestDispatcher(int maxInFlight, int queueCapacity) {
+        RachioRequestPriority[] priorities = RachioRequestPriority.values();
+        this.queues = new Deque[priorities.length];
+        for (RachioRequestPriority priority : priorities) {
+            queues[priority.ordinal()] = new ArrayDeque<>();
+        }
+        setLimits(maxInFlight, queueCapacity);
+    }
+
+    /**
+     * Change the limits; requests already queued beyond a lowered capacity are still served
+     *
+     * @param maxInFlight maximum number of requests sent concurrently
+     * @param queueCapacity maximum number of waiting requests
+     */
+    public synchronized void setLimits(int maxInFlight, int queueCapacity) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.queueCapacity = Math.max(0, queueCapacity);
+    }
+
+    /**
+     * Run a request now if a slot is free, otherwise queue it
+     *
+     * @param priority priority class of the request
+     * @param task starts the request; the slot is held until the returned future completes
+     * @return Future completing with the outcome of the task, or exceptionally with a
+     *         {@link RachioQueueFullException} if the request was rejected
+     */
+    public <T> CompletableFuture<T> submit(RachioRequestPriority priority, Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Pending<T> pending = new Pending<>(task, result);
+        boolean runNow;
+        int depth;
+        synchronized (this) {
+            runNow = inFlight < maxInFlight;
+            if (runNow) {
+                inFlight++;
+            } else if (queued < queueCapacity) {
+                queues[priority.ordinal()].addLast(pending);
+                queued++;
+            } else {
+                rejected.incrementAndGet();
+                result.completeExceptionally(new RachioQueueFullException(
+                        "Request queue full (" + queued + " waiting), " + priority + " request rejected", queued));
+                return result;
+            }
+            depth = queued;
+        }
+
+        if (runNow) {
+            start(pending);
+        } else {
+            logger.trace("Queued {} request, queue depth {}", priority, depth);
+        }
+        return result;
+    }
+
+    private <T> void start(Pending<T> pending) {
+        long waited = System.nanoTime() - pending.enqueuedAt;
+        dispatched.incrementAndGet();
+        totalWaitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        CompletableFuture<T> future;
+        try {
+            future = pending.task.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        // Cancelling the request ends the running task, which frees the slot
+        CompletableFuture<T> running = future;
+        pending.result.whenComplete((value, error) -> {
+            if (pending.result.isCancelled()) {
+                running.cancel(true);
+            }
+        });
+        future.whenComplete((value, error) -> {
+            release();
+            if (error != null) {
+                pending.result.completeExceptionally(error);
+            } else {
+                pending.result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        Pending<?> next;
+        synchronized (this) {
+            next = pollNext();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+            // The freed slot passes straight to the next request
+        }
+        start(next);
+    }
+
+    private @Nullable Pending<?> pollNext() {
+        for (Deque<Pending<?>> queue : queues) {
+            Pending<?> next;
+            while ((next = queue.pollFirst()) != null) {
+                queued--;
+                if (!next.result.isDone()) {
+                    return next;
+                }
+                // Cancelled by the caller while waiting
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return number of requests waiting for a slot
+     */
+    public synchronized int getQueueDepth() {
+        return queued;
+    }
+
+    /**
+     * @return number of requests currently sent
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of requests rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return average time a request waited for a slot in milliseconds
+     */
+    public long getAverageWaitMillis() {
+        long count = dispatched.get();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count) : 0;
+    }
+
+    /**
+     * @return longest time a request waited for a slot in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+}
@@ -0,0 +1,19 @@
+package org.openhab.binding.rachio.internal.api;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Priority classes for Rachio API calls.
+ * When the rate limit budget runs short, the {@link RachioQuotaScheduler} sheds the lowest class first.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public enum RachioRequestPriority {
+    /** User commands such as starting or stopping a zone; only refused when the budget is fully exhausted */
+    COMMAND,
+    /** Regular status polling of person, devices and zones */
+    STATUS,
+    /** Forecast, savings, usage, discovery and other refreshes that can wait */
+    BACKGROUND
+}
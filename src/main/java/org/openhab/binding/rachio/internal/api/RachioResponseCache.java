@@ -0,0 +1,172 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded in-memory cache of decoded Rachio API responses, keyed by endpoint.
+ * Entries expire after a per-endpoint TTL. An expired entry stays usable for one more TTL period so it can
+ * be served while a single background refresh runs (stale-while-revalidate). When the cache is full the
+ * least recently used entry is evicted.
+ * Every invalidation advances a generation counter. A response read before an invalidation of its device is not
+ * stored, so a read racing with a write cannot bring back the state from before the write.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioResponseCache {
+
+    /**
+     * A cached response
+     */
+    public static class Entry {
+        public final @Nullable Object value;
+        public final @Nullable String deviceId;
+        private final long storedAt;
+        private final long ttlMillis;
+        private boolean refreshing = false;
+
+        Entry(@Nullable Object value, @Nullable String deviceId, long storedAt, long ttlMillis) {
+            this.value = value;
+            this.deviceId = deviceId;
+            this.storedAt = storedAt;
+            this.ttlMillis = ttlMillis;
+        }
+
+        public boolean isFresh(long now) {
+            return now - storedAt < ttlMillis;
+        }
+
+        boolean isUsable(long now) {
+            return now - storedAt < 2 * ttlMillis;
+        }
+    }
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+    private final Map<String, Long> deviceInvalidations = new HashMap<>();
+    private long generation = 0;
+    private long allDevicesInvalidation = 0;
+
+    /**
+     * @param maxSize maximum number of cached endpoints
+     */
+    public RachioResponseCache(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
+                return size() > RachioResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Look up an endpoint
+     *
+     * @param endpoint API endpoint
+     * @return the fresh or still usable stale entry, or null on a miss
+     */
+    public synchronized @Nullable Entry get(String endpoint) {
+        Entry entry = entries.get(endpoint);
+        if (entry != null && !entry.isUsable(System.currentTimeMillis())) {
+            entries.remove(endpoint);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @return the current generation, to be passed to {@link #put} by a read started now
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Store a decoded response unless its device was invalidated since the read started
+     *
+     * @param endpoint API endpoint
+     * @param value decoded response
+     * @param deviceId device the response belongs to, used for invalidation (null if not device specific)
+     * @param ttlSeconds time to live in seconds
+     * @param readGeneration {@link #generation()} when the read was started
+     * @return true if stored, false if the response was dropped as outdated
+     */
+    public synchronized boolean put(String endpoint, @Nullable Object value, @Nullable String deviceId,
+            int ttlSeconds, long readGeneration) {
+        if (deviceId != null) {
+            long invalidated = Math.max(allDevicesInvalidation, deviceInvalidations.getOrDefault(deviceId, 0L));
+            if (invalidated > readGeneration) {
+                return false;
+            }
+        }
+        entries.put(endpoint, new Entry(value, deviceId, System.currentTimeMillis(), ttlSeconds * 1000L));
+        return true;
+    }
+
+    /**
+     * Claim the background refresh of a stale entry
+     *
+     * @param endpoint API endpoint
+     * @return true if the caller should refresh, false if a refresh is already running or the entry is gone
+     */
+    public synchronized boolean beginRefresh(String endpoint) {
+        Entry entry = entries.get(endpoint);
+        if (entry == null || entry.refreshing) {
+            return false;
+        }
+        entry.refreshing = true;
+        return true;
+    }
+
+    /**
+     * Release a refresh claim after a failed refresh, so the next reader may try again
+     *
+     * @param endpoint API endpoint
+     */
+    public synchronized void endRefresh(String endpoint) {
+        Entry entry = entries.get(endpoint);
+        if (entry != null) {
+            entry.refreshing = false;
+        }
+    }
+
+    /**
+     * Drop all entries of a device
+     *
+     * @param deviceId device ID
+     */
+    public synchronized void invalidateDevice(String deviceId) {
+        deviceInvalidations.put(deviceId, ++generation);
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (deviceId.equals(it.next().deviceId)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop all device specific entries, used when the affected device is unknown
+     */
+    public synchronized void invalidateAllDevices() {
+        allDevicesInvalidation = ++generation;
+        entries.values().removeIf(entry -> entry.deviceId != null);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
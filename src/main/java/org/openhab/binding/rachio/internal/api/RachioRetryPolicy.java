@@ -0,0 +1,175 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Retry policy for Rachio API calls.
+ * Transient failures (network errors, HTTP 429, 502, 503 and 504) are retried with exponential backoff and
+ * full jitter. A Retry-After delay from the server, or for 429 the rate limit reset, takes precedence.
+ * Other 4xx and 5xx responses are never retried.
+ * Requests that are not idempotent (zone starts, pauses and other PUT and POST commands) are only retried when
+ * the failure proves the API did not act on them: 429, 503 with Retry-After, or no connection. After a timeout or
+ * a broken connection the command may already have been carried out, so it is left to the command outbox.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioRetryPolicy {
+
+    /** Longest delay we are willing to wait before a retry; beyond that the error is returned to the caller */
+    private static final long MAX_DELAY_MILLIS = 60000;
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+
+    /**
+     * @param maxRetries number of retries after the first attempt (0 disables retries)
+     * @param baseDelayMillis delay before the first retry, doubled for every further retry
+     */
+    public RachioRetryPolicy(int maxRetries, long baseDelayMillis) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+    }
+
+    /**
+     * Check whether a failure is transient
+     *
+     * @param error failure of an attempt
+     * @return true if the same request may succeed when repeated
+     */
+    public boolean isRetryable(RachioApiException error) {
+        return isRetryable(error, true);
+    }
+
+    /**
+     * Check whether a failure may be retried
+     *
+     * @param error failure of an attempt
+     * @param idempotent true if repeating the request has the same effect as sending it once
+     * @return true if the request may be sent again
+     */
+    public boolean isRetryable(RachioApiException error, boolean idempotent) {
+        if (!idempotent) {
+            return wasNotProcessed(error);
+        }
+        switch (error.getStatusCode()) {
+            case 0:
+                return error.getCause() instanceof IOException;
+            case 429:
+            case 502:
+            case 503:
+            case 504:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Check whether a failure proves that the API did not act on the request
+     *
+     * @param error failure of an attempt
+     * @return true if the request was refused or never reached the API
+     */
+    public static boolean wasNotProcessed(RachioApiException error) {
+        switch (error.getStatusCode()) {
+            case 0:
+                return isConnectFailure(error.getCause());
+            case 429:
+                return true;
+            case 503:
+                return error.getRetryAfterMillis() >= 0;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isConnectFailure(@Nullable Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decide how long to wait before the next attempt of an idempotent request
+     *
+     * @param attempt number of the attempt that failed, starting at 1
+     * @param error failure of that attempt
+     * @param rateLimitResetSeconds seconds until the rate limit resets as last reported, 0 if unknown
+     * @return delay in milliseconds, or -1 if the request must not be retried
+     */
+    public long getRetryDelay(int attempt, RachioApiException error, long rateLimitResetSeconds) {
+        return getRetryDelay(attempt, error, rateLimitResetSeconds, true);
+    }
+
+    /**
+     * Decide how long to wait before the next attempt
+     *
+     * @param attempt number of the attempt that failed, starting at 1
+     * @param error failure of that attempt
+     * @param rateLimitResetSeconds seconds until the rate limit resets as last reported, 0 if unknown
+     * @param idempotent true if repeating the request has the same effect as sending it once
+     * @return delay in milliseconds, or -1 if the request must not be retried
+     */
+    public long getRetryDelay(int attempt, RachioApiException error, long rateLimitResetSeconds,
+            boolean idempotent) {
+        if (attempt > maxRetries || !isRetryable(error, idempotent)) {
+            return -1;
+        }
+
+        long serverDelay = error.getRetryAfterMillis();
+        if (serverDelay < 0 && error.isRateLimitError() && rateLimitResetSeconds > 0) {
+            serverDelay = rateLimitResetSeconds * 1000;
+        }
+        if (serverDelay >= 0) {
+            // Waiting longer than we can afford would only hold the caller; report the error instead
+            return serverDelay <= MAX_DELAY_MILLIS ? serverDelay : -1;
+        }
+
+        // Full jitter: uniformly random between 0 and the exponential ceiling
+        long ceiling = Math.min(MAX_DELAY_MILLIS, baseDelayMillis << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Parse a Retry-After header, given either in seconds or as an HTTP date
+     *
+     * @param value header value
+     * @return delay in milliseconds, or -1 if the value is missing or invalid
+     */
+    public static long parseRetryAfter(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            try {
+                return Long.parseLong(trimmed) * 1000;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
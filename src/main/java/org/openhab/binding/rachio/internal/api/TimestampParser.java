@@ -0,0 +1,207 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Single pass parser for the timestamp formats seen in Rachio payloads:
+ * <ul>
+ * <li>ISO 8601 date-time with offset: {@code 2024-05-01T06:00:00.123Z}, {@code 2024-05-01T06:00:00+02:00}</li>
+ * <li>ISO 8601 local date-time, taken as UTC: {@code 2024-05-01T06:00:00}</li>
+ * <li>epoch milliseconds ({@code 1714543200123}) and epoch seconds ({@code 1714543200})</li>
+ * </ul>
+ * Invalid input yields null instead of an exception. Each instance remembers the format it detected last and
+ * tries it first, so with one instance per field the values of that field skip format detection.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class TimestampParser {
+
+    /** Numbers at or above this are epoch milliseconds (September 2001 in milliseconds, year 33658 in seconds) */
+    private static final long MILLIS_THRESHOLD = 1_000_000_000_000L;
+
+    private enum Format {
+        ISO,
+        EPOCH
+    }
+
+    private volatile @Nullable Format lastFormat;
+
+    /**
+     * Parse a timestamp
+     *
+     * @param value timestamp in one of the supported formats, surrounding whitespace allowed
+     * @return the instant, or null if the value is empty or not a valid timestamp
+     */
+    public @Nullable Instant parse(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        Format hint = lastFormat;
+        if (hint != null) {
+            Instant result = parse(hint, value, start, end);
+            if (result != null) {
+                return result;
+            }
+        }
+        Format format = detect(value, start, end);
+        if (format == null || format == hint) {
+            return null;
+        }
+        lastFormat = format;
+        return parse(format, value, start, end);
+    }
+
+    private static @Nullable Instant parse(Format format, String value, int start, int end) {
+        return format == Format.ISO ? parseIso(value, start, end) : parseEpoch(value, start, end);
+    }
+
+    private static @Nullable Format detect(String value, int start, int end) {
+        char first = value.charAt(start);
+        if (end - start >= 16 && value.charAt(start + 4) == '-') {
+            return Format.ISO;
+        } else if (first == '-' || isDigit(first)) {
+            return Format.EPOCH;
+        }
+        return null;
+    }
+
+    private static @Nullable Instant parseEpoch(String value, int start, int end) {
+        boolean negative = value.charAt(start) == '-';
+        int pos = negative ? start + 1 : start;
+        // 18 digits always fit into a long
+        if (pos == end || end - pos > 18) {
+            return null;
+        }
+        long number = 0;
+        for (; pos < end; pos++) {
+            char c = value.charAt(pos);
+            if (!isDigit(c)) {
+                return null;
+            }
+            number = number * 10 + (c - '0');
+        }
+        if (negative) {
+            number = -number;
+        }
+        return Math.abs(number) >= MILLIS_THRESHOLD ? Instant.ofEpochMilli(number) : Instant.ofEpochSecond(number);
+    }
+
+    private static @Nullable Instant parseIso(String value, int start, int end) {
+        // yyyy-MM-ddTHH:mm is the shortest accepted form
+        if (end - start < 16 || value.charAt(start + 4) != '-') {
+            return null;
+        }
+        int year = digits(value, start, 4);
+        int month = digits(value, start + 5, 2);
+        int day = digits(value, start + 8, 2);
+        char separator = value.charAt(start + 10);
+        int hour = digits(value, start + 11, 2);
+        int minute = digits(value, start + 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || value.charAt(start + 7) != '-'
+                || (separator != 'T' && separator != 't' && separator != ' ') || hour < 0 || hour > 23
+                || value.charAt(start + 13) != ':' || minute < 0 || minute > 59) {
+            return null;
+        }
+        if (day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            return null;
+        }
+
+        int pos = start + 16;
+        int second = 0;
+        int nanos = 0;
+        if (pos < end && value.charAt(pos) == ':') {
+            second = digits(value, pos + 1, 2);
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            pos += 3;
+            if (pos < end && (value.charAt(pos) == '.' || value.charAt(pos) == ',')) {
+                pos++;
+                int digitCount = 0;
+                while (pos < end && isDigit(value.charAt(pos))) {
+                    if (digitCount < 9) {
+                        nanos = nanos * 10 + (value.charAt(pos) - '0');
+                    }
+                    digitCount++;
+                    pos++;
+                }
+                if (digitCount == 0) {
+                    return null;
+                }
+                for (int i = digitCount; i < 9; i++) {
+                    nanos *= 10;
+                }
+            }
+        }
+
+        int offsetSeconds = 0;
+        if (pos < end) {
+            char zone = value.charAt(pos);
+            if ((zone == 'Z' || zone == 'z') && pos + 1 == end) {
+                // UTC
+            } else if (zone == '+' || zone == '-') {
+                int offsetHours = digits(value, pos + 1, 2);
+                int offsetMinutes = 0;
+                int rest = end - pos - 3;
+                if (rest == 3 && value.charAt(pos + 3) == ':') {
+                    offsetMinutes = digits(value, pos + 4, 2);
+                } else if (rest == 2) {
+                    offsetMinutes = digits(value, pos + 3, 2);
+                } else if (rest != 0) {
+                    return null;
+                }
+                if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                    return null;
+                }
+                offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (zone == '-' ? -1 : 1);
+            } else {
+                return null;
+            }
+        }
+
+        long epochSecond = LocalDate.of(year, month, day).toEpochDay() * 86400 + hour * 3600 + minute * 60 + second
+                - offsetSeconds;
+        return Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    /**
+     * Read a fixed number of decimal digits
+     *
+     * @return the value, or -1 if the range is out of bounds or contains a non digit
+     */
+    private static int digits(String value, int from, int count) {
+        if (from + count > value.length()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,248 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Field level difference between two successive snapshots of a device.
+ * Changes are grouped the way the handlers update channels, so a handler can skip every channel whose group did
+ * not change. A device seen for the first time reports every group as changed.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioDeviceDelta {
+
+    /**
+     * What changed on the device itself
+     */
+    public enum DeviceChange {
+        /** First snapshot of the device */
+        ADDED,
+        STATUS,
+        PAUSED,
+        ENABLED,
+        DELETED,
+        RAIN_DELAY,
+        /** Zones were added or removed */
+        ZONES,
+        /** Name, model, serial number, MAC address or creation date */
+        PROPERTIES
+    }
+
+    /**
+     * What changed on one zone
+     */
+    public enum ZoneChange {
+        /** First snapshot of the zone */
+        ADDED,
+        ENABLED,
+        RUNTIME,
+        /** Last run status or run duration */
+        RUN_STATUS,
+        /** Soil, crop, nozzle, shade or slope */
+        CATALOG,
+        /** Efficiency, available water, depth of water, root depth, allowed depletion or area */
+        WATER,
+        /** Name, zone number or custom catalog flags */
+        PROPERTIES
+    }
+
+    private final RachioDeviceSnapshot device;
+    private final Set<DeviceChange> deviceChanges;
+    private final Map<String, Set<ZoneChange>> zoneChanges;
+    private final List<String> removedZones;
+
+    private RachioDeviceDelta(RachioDeviceSnapshot device, Set<DeviceChange> deviceChanges,
+            Map<String, Set<ZoneChange>> zoneChanges, List<String> removedZones) {
+        this.device = device;
+        this.deviceChanges = Collections.unmodifiableSet(deviceChanges);
+        this.zoneChanges = Collections.unmodifiableMap(zoneChanges);
+        this.removedZones = Collections.unmodifiableList(removedZones);
+    }
+
+    /**
+     * Compare two snapshots of the same device
+     *
+     * @param previous snapshot of the previous poll, or null if the device is new
+     * @param current snapshot of this poll
+     * @return the changes from previous to current
+     */
+    public static RachioDeviceDelta between(@Nullable RachioDeviceSnapshot previous, RachioDeviceSnapshot current) {
+        Map<String, Set<ZoneChange>> zoneChanges = new LinkedHashMap<>();
+        if (previous == null) {
+            for (RachioZoneSnapshot zone : current.zones) {
+                zoneChanges.put(zone.id, EnumSet.allOf(ZoneChange.class));
+            }
+            return new RachioDeviceDelta(current, EnumSet.allOf(DeviceChange.class), zoneChanges, List.of());
+        }
+
+        Set<DeviceChange> deviceChanges = EnumSet.noneOf(DeviceChange.class);
+        if (previous == current) {
+            return new RachioDeviceDelta(current, deviceChanges, zoneChanges, List.of());
+        }
+        if (!previous.status.equals(current.status)) {
+            deviceChanges.add(DeviceChange.STATUS);
+        }
+        if (previous.isPaused() != current.isPaused()) {
+            deviceChanges.add(DeviceChange.PAUSED);
+        }
+        if (previous.isEnabled() != current.isEnabled()) {
+            deviceChanges.add(DeviceChange.ENABLED);
+        }
+        if (previous.isDeleted() != current.isDeleted()) {
+            deviceChanges.add(DeviceChange.DELETED);
+        }
+        if (!Objects.equals(previous.rainDelayExpiration, current.rainDelayExpiration)) {
+            deviceChanges.add(DeviceChange.RAIN_DELAY);
+        }
+        if (!previous.name.equals(current.name) || !previous.model.equals(current.model)
+                || !previous.serialNumber.equals(current.serialNumber)
+                || !previous.macAddress.equals(current.macAddress)
+                || !Objects.equals(previous.createdDate, current.createdDate)) {
+            deviceChanges.add(DeviceChange.PROPERTIES);
+        }
+
+        Map<String, RachioZoneSnapshot> previousZones = new HashMap<>();
+        for (RachioZoneSnapshot zone : previous.zones) {
+            previousZones.put(zone.id, zone);
+        }
+        for (RachioZoneSnapshot zone : current.zones) {
+            RachioZoneSnapshot before = previousZones.remove(zone.id);
+            Set<ZoneChange> changes = between(before, zone);
+            if (!changes.isEmpty()) {
+                zoneChanges.put(zone.id, changes);
+            }
+        }
+        List<String> removedZones = new ArrayList<>(previousZones.keySet());
+        if (!removedZones.isEmpty() || previous.zones.size() != current.zones.size()) {
+            deviceChanges.add(DeviceChange.ZONES);
+        }
+        for (Set<ZoneChange> changes : zoneChanges.values()) {
+            if (changes.contains(ZoneChange.ADDED)) {
+                deviceChanges.add(DeviceChange.ZONES);
+                break;
+            }
+        }
+        return new RachioDeviceDelta(current, deviceChanges, zoneChanges, removedZones);
+    }
+
+    /**
+     * Compare two snapshots of the same zone
+     *
+     * @param previous snapshot of the previous poll, or null if the zone is new
+     * @param current snapshot of this poll
+     * @return the changed groups, empty if nothing changed
+     */
+    public static Set<ZoneChange> between(@Nullable RachioZoneSnapshot previous, RachioZoneSnapshot current) {
+        if (previous == null) {
+            return EnumSet.allOf(ZoneChange.class);
+        }
+        Set<ZoneChange> changes = EnumSet.noneOf(ZoneChange.class);
+        if (previous == current) {
+            return changes;
+        }
+        if (previous.isEnabled() != current.isEnabled()) {
+            changes.add(ZoneChange.ENABLED);
+        }
+        if (previous.runtime != current.runtime) {
+            changes.add(ZoneChange.RUNTIME);
+        }
+        if (previous.lastRunStatus != current.lastRunStatus || previous.duration != current.duration) {
+            changes.add(ZoneChange.RUN_STATUS);
+        }
+        if (!Objects.equals(previous.soil, current.soil) || !Objects.equals(previous.crop, current.crop)
+                || !Objects.equals(previous.nozzle, current.nozzle) || !Objects.equals(previous.shade, current.shade)
+                || !Objects.equals(previous.slope, current.slope)) {
+            changes.add(ZoneChange.CATALOG);
+        }
+        if (Double.compare(previous.efficiency, current.efficiency) != 0
+                || Double.compare(previous.availableWater, current.availableWater) != 0
+                || Double.compare(previous.depthOfWater, current.depthOfWater) != 0
+                || Double.compare(previous.rootZoneDepth, current.rootZoneDepth) != 0
+                || Double.compare(previous.managementAllowedDepletion, current.managementAllowedDepletion) != 0
+                || Double.compare(previous.zoneArea, current.zoneArea) != 0) {
+            changes.add(ZoneChange.WATER);
+        }
+        if (!previous.name.equals(current.name) || previous.zoneNumber != current.zoneNumber
+                || previous.isCustomSoil() != current.isCustomSoil()
+                || previous.isCustomCrop() != current.isCustomCrop()
+                || previous.isCustomNozzle() != current.isCustomNozzle()) {
+            changes.add(ZoneChange.PROPERTIES);
+        }
+        return changes;
+    }
+
+    /**
+     * @return the snapshot the changes lead to
+     */
+    public RachioDeviceSnapshot getDevice() {
+        return device;
+    }
+
+    /**
+     * @return true if neither the device nor any zone changed
+     */
+    public boolean isEmpty() {
+        return deviceChanges.isEmpty() && zoneChanges.isEmpty();
+    }
+
+    public boolean has(DeviceChange change) {
+        return deviceChanges.contains(change);
+    }
+
+    /**
+     * @return true if the change applies to at least one zone
+     */
+    public boolean has(ZoneChange change) {
+        for (Set<ZoneChange> changes : zoneChanges.values()) {
+            if (changes.contains(change)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<DeviceChange> getDeviceChanges() {
+        return deviceChanges;
+    }
+
+    /**
+     * @return changes per zone id; zones without changes are not included
+     */
+    public Map<String, Set<ZoneChange>> getZoneChanges() {
+        return zoneChanges;
+    }
+
+    /**
+     * @param zoneId Zone ID
+     * @return the changes of the zone, empty if it did not change
+     */
+    public Set<ZoneChange> getZoneChanges(String zoneId) {
+        Set<ZoneChange> changes = zoneChanges.get(zoneId);
+        return changes != null ? changes : Set.of();
+    }
+
+    /**
+     * @return ids of zones that are no longer part of the device
+     */
+    public List<String> getRemovedZones() {
+        return removedZones;
+    }
+
+    @Override
+    public String toString() {
+        return "RachioDeviceDelta{device=" + device.id + ", changes=" + deviceChanges + ", zones=" + zoneChanges
+                + ", removedZones=" + removedZones + "}";
+    }
+}
@@ -0,0 +1,150 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Immutable state of a controller and its zones as kept between polls.
+ * Built once per poll from the decoded {@link RachioDevice} and shared by reference by the bridge, the device and
+ * zone handlers and discovery. Like {@link RachioZoneSnapshot} it keeps only the fields those read, with packed
+ * flags and interned strings.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioDeviceSnapshot {
+
+    private static final int PAUSED = 1;
+    private static final int ENABLED = 1 << 1;
+    private static final int DELETED = 1 << 2;
+
+    public final String id;
+    public final String name;
+    public final String status;
+    public final String serialNumber;
+    public final String model;
+    public final String macAddress;
+    public final @Nullable Instant createdDate;
+    public final @Nullable Instant rainDelayExpiration;
+    public final List<RachioZoneSnapshot> zones;
+    private final int flags;
+
+    private RachioDeviceSnapshot(RachioDevice device, List<RachioZoneSnapshot> zones) {
+        this.id = device.id.intern();
+        this.name = device.name.intern();
+        this.status = device.status.intern();
+        this.serialNumber = device.getSerialNumberSafe().intern();
+        this.model = device.model.intern();
+        this.macAddress = device.macAddress.intern();
+        this.createdDate = device.createdDate;
+        this.rainDelayExpiration = device.rainDelayExpiration;
+        this.zones = zones;
+        this.flags = (device.paused ? PAUSED : 0) | (device.enabled ? ENABLED : 0) | (device.deleted ? DELETED : 0);
+    }
+
+    private RachioDeviceSnapshot(RachioDeviceSnapshot other, List<RachioZoneSnapshot> zones) {
+        this.id = other.id;
+        this.name = other.name;
+        this.status = other.status;
+        this.serialNumber = other.serialNumber;
+        this.model = other.model;
+        this.macAddress = other.macAddress;
+        this.createdDate = other.createdDate;
+        this.rainDelayExpiration = other.rainDelayExpiration;
+        this.zones = zones;
+        this.flags = other.flags;
+    }
+
+    /**
+     * Take a snapshot of a decoded device and its zones
+     *
+     * @param device decoded device
+     * @return the snapshot
+     */
+    public static RachioDeviceSnapshot of(RachioDevice device) {
+        List<RachioZone> deviceZones = device.zones;
+        List<RachioZoneSnapshot> zones = new ArrayList<>(deviceZones != null ? deviceZones.size() : 0);
+        if (deviceZones != null) {
+            for (RachioZone zone : deviceZones) {
+                if (zone != null) {
+                    zones.add(RachioZoneSnapshot.of(zone, device.id));
+                }
+            }
+        }
+        return new RachioDeviceSnapshot(device, List.copyOf(zones));
+    }
+
+    public boolean isPaused() {
+        return (flags & PAUSED) != 0;
+    }
+
+    public boolean isEnabled() {
+        return (flags & ENABLED) != 0;
+    }
+
+    public boolean isDeleted() {
+        return (flags & DELETED) != 0;
+    }
+
+    /**
+     * @return the status, or UNKNOWN if the device did not report one
+     */
+    public String getStatusNonNull() {
+        return !status.isEmpty() ? status : "UNKNOWN";
+    }
+
+    /**
+     * @param zoneId Zone ID
+     * @return the zone, or null if it does not belong to this device
+     */
+    public @Nullable RachioZoneSnapshot getZone(String zoneId) {
+        for (RachioZoneSnapshot zone : zones) {
+            if (zone.id.equals(zoneId)) {
+                return zone;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param zone changed zone of this device
+     * @return a copy with the zone of the same id replaced
+     */
+    public RachioDeviceSnapshot withZone(RachioZoneSnapshot zone) {
+        List<RachioZoneSnapshot> changed = new ArrayList<>(zones);
+        changed.replaceAll(existing -> existing.id.equals(zone.id) ? zone : existing);
+        return new RachioDeviceSnapshot(this, List.copyOf(changed));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RachioDeviceSnapshot)) {
+            return false;
+        }
+        RachioDeviceSnapshot other = (RachioDeviceSnapshot) obj;
+        return id.equals(other.id) && name.equals(other.name) && status.equals(other.status)
+                && serialNumber.equals(other.serialNumber) && model.equals(other.model)
+                && macAddress.equals(other.macAddress) && flags == other.flags
+                && Objects.equals(createdDate, other.createdDate)
+                && Objects.equals(rainDelayExpiration, other.rainDelayExpiration) && zones.equals(other.zones);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, flags, zones);
+    }
+
+    @Override
+    public String toString() {
+        return "RachioDeviceSnapshot{id=" + id + ", name=" + name + ", status=" + status + ", zones=" + zones.size()
+                + "}";
+    }
+}
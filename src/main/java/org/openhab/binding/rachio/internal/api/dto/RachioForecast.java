@@ -7,6 +7,9 @@ import java.util.List;
 
 import org.eclipse.jdt.annotation.Nullable;
 
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.Column;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.TextColumn;
+
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -16,6 +19,8 @@ import com.google.gson.annotations.SerializedName;
  */
 public class RachioForecast {
 
+    private static final int HOURS_PER_DAY = 24;
+
     @SerializedName("deviceId")
     public String deviceId;
 
@@ -34,14 +39,15 @@ public class RachioForecast {
     @SerializedName("current")
     public CurrentConditions current;
 
+    // Hourly and daily series are decoded straight into columns, see RachioForecastSeries
     @SerializedName("hourly")
-    public List<HourlyForecast> hourly;
+    private RachioForecastSeries hourly = RachioForecastSeries.EMPTY;
 
     @SerializedName("daily")
-    public List<DailyForecast> daily;
+    public RachioForecastSeries daily = RachioForecastSeries.EMPTY;
 
     @SerializedName("forecastDays")
-    public List<DailyForecast> forecastDays = new ArrayList<>();
+    public RachioForecastSeries forecastDays = RachioForecastSeries.EMPTY;
 
     @SerializedName("alerts")
     public List<WeatherAlert> alerts;
@@ -52,12 +58,14 @@ public class RachioForecast {
     @SerializedName("expiresAt")
     public Instant expiresAt;
 
+    // Aggregates over the next 24 hours, computed once when the hourly series is set; NaN without hourly data
+    private transient double precipitationProbability24h = Double.NaN;
+    private transient double precipitation24h = Double.NaN;
+
     /**
      * Default constructor for Gson
      */
     public RachioForecast() {
-        this.hourly = new ArrayList<>();
-        this.daily = new ArrayList<>();
         this.alerts = new ArrayList<>();
     }
 
@@ -145,31 +153,50 @@ public class RachioForecast {
     /**
      * Get hourly forecasts
      */
-    public List<HourlyForecast> getHourly() {
+    public RachioForecastSeries getHourly() {
         return hourly;
     }
 
+    /**
+     * Set the hourly forecasts and compute the 24 hour aggregates
+     */
+    public void setHourly(RachioForecastSeries hourly) {
+        this.hourly = hourly;
+        if (hourly.isEmpty()) {
+            precipitationProbability24h = Double.NaN;
+            precipitation24h = Double.NaN;
+        } else {
+            // Hours without a value count as 0, as when the aggregates were computed per call
+            precipitationProbability24h = zeroIfNaN(hourly.max(Column.PRECIP_PROBABILITY, HOURS_PER_DAY));
+            precipitation24h = zeroIfNaN(hourly.sum(Column.PRECIP_ACCUMULATION, HOURS_PER_DAY));
+        }
+    }
+
     /**
      * Get number of hourly forecasts
      */
     public int getHourlyCount() {
-        return hourly != null ? hourly.size() : 0;
+        return hourly.size();
     }
 
     /**
-     * Get hourly forecast for specific hour offset (0 = current hour)
+     * Get hourly forecast for specific hour offset (0 = current hour).
+     * Rows are located by their epoch hour; a series without timestamps is taken to start at the current hour.
      */
     public HourlyForecast getHourlyForecast(int hoursFromNow) {
-        if (hourly == null || hoursFromNow < 0 || hoursFromNow >= hourly.size()) {
+        if (hoursFromNow < 0) {
             return null;
         }
-        return hourly.get(hoursFromNow);
+        int row = hourly.getTime(0) != RachioForecastSeries.NO_TIME
+                ? hourly.indexOf(Instant.now().getEpochSecond() + hoursFromNow * RachioForecastSeries.HOURLY_PERIOD)
+                : hoursFromNow;
+        return row >= 0 && row < hourly.size() ? HourlyForecast.of(hourly, row) : null;
     }
 
     /**
      * Get daily forecasts
      */
-    public List<DailyForecast> getDaily() {
+    public RachioForecastSeries getDaily() {
         return daily;
     }
 
@@ -177,7 +204,7 @@ public class RachioForecast {
      * Get number of daily forecasts
      */
     public int getDailyCount() {
-        return daily != null ? daily.size() : 0;
+        return daily.size();
     }
 
     /**
@@ -198,10 +225,10 @@ public class RachioForecast {
      * Get daily forecast for specific day offset (0 = today)
      */
     public DailyForecast getDailyForecast(int daysFromNow) {
-        if (daily == null || daysFromNow < 0 || daysFromNow >= daily.size()) {
+        if (daysFromNow < 0 || daysFromNow >= daily.size()) {
             return null;
         }
-        return daily.get(daysFromNow);
+        return DailyForecast.of(daily, daysFromNow);
     }
 
     /**
@@ -307,50 +334,21 @@ public class RachioForecast {
      * Get precipitation probability for next 24 hours
      */
     public Double get24HourPrecipitationProbability() {
-        if (hourly == null || hourly.isEmpty()) {
-            return null;
-        }
-
-        double maxProbability = 0;
-        int hoursToCheck = Math.min(24, hourly.size());
-
-        for (int i = 0; i < hoursToCheck; i++) {
-            HourlyForecast hour = hourly.get(i);
-            if (hour != null && hour.precipProbability != null) {
-                maxProbability = Math.max(maxProbability, hour.precipProbability);
-            }
-        }
-
-        return maxProbability;
+        return !Double.isNaN(precipitationProbability24h) ? precipitationProbability24h : null;
     }
 
     /**
      * Get total precipitation for next 24 hours (inches/mm)
      */
     public Double get24HourPrecipitation() {
-        if (hourly == null || hourly.isEmpty()) {
-            return null;
-        }
-
-        double total = 0;
-        int hoursToCheck = Math.min(24, hourly.size());
-
-        for (int i = 0; i < hoursToCheck; i++) {
-            HourlyForecast hour = hourly.get(i);
-            if (hour != null && hour.precipAccumulation != null) {
-                total += hour.precipAccumulation;
-            }
-        }
-
-        return total;
+        return !Double.isNaN(precipitation24h) ? precipitation24h : null;
     }
 
     /**
      * Check if precipitation expected in next 24 hours
      */
     public boolean hasPrecipitationExpected() {
-        Double probability = get24HourPrecipitationProbability();
-        return probability != null && probability > 0.3; // 30% threshold
+        return precipitationProbability24h > 0.3; // 30% threshold, false for NaN
     }
 
     /**
@@ -361,10 +359,7 @@ public class RachioForecast {
             return 0; // No adjustment needed
         }
 
-        Double precip = get24HourPrecipitationProbability();
-        if (precip == null) {
-            return 0;
-        }
+        double precip = precipitationProbability24h;
 
         // Calculate adjustment percentage (reduce watering if rain expected)
         if (precip > 0.8) {
@@ -385,7 +380,7 @@ public class RachioForecast {
      */
     public boolean isValidData() {
         return deviceId != null && !deviceId.isEmpty() && generatedAt != null
-                && (current != null || (hourly != null && !hourly.isEmpty()));
+                && (current != null || !hourly.isEmpty());
     }
 
     /**
@@ -589,6 +584,29 @@ public class RachioForecast {
         @SerializedName("uvIndex")
         public Double uvIndex;
 
+        /**
+         * Materialize one row of an hourly series
+         */
+        static HourlyForecast of(RachioForecastSeries series, int row) {
+            HourlyForecast hour = new HourlyForecast();
+            long time = series.getTime(row);
+            hour.timestamp = time != RachioForecastSeries.NO_TIME ? Instant.ofEpochSecond(time) : null;
+            hour.temperature = boxed(series.get(Column.TEMPERATURE, row));
+            hour.feelsLike = boxed(series.get(Column.FEELS_LIKE, row));
+            hour.condition = series.getText(TextColumn.CONDITION, row);
+            hour.conditionCode = series.getText(TextColumn.CONDITION_CODE, row);
+            hour.precipProbability = boxed(series.get(Column.PRECIP_PROBABILITY, row));
+            hour.precipIntensity = boxed(series.get(Column.PRECIP_INTENSITY, row));
+            hour.precipAccumulation = boxed(series.get(Column.PRECIP_ACCUMULATION, row));
+            hour.precipType = series.getText(TextColumn.PRECIP_TYPE, row);
+            hour.humidity = boxed(series.get(Column.HUMIDITY, row));
+            hour.windSpeed = boxed(series.get(Column.WIND_SPEED, row));
+            hour.windDirection = boxedInt(series.get(Column.WIND_DIRECTION, row));
+            hour.cloudCover = boxed(series.get(Column.CLOUD_COVER, row));
+            hour.uvIndex = boxed(series.get(Column.UV_INDEX, row));
+            return hour;
+        }
+
         /**
          * Get hour of day (0-23)
          */
@@ -703,6 +721,38 @@ public class RachioForecast {
         @Nullable
         public Boolean smartSkip;
 
+        /**
+         * Materialize one row of a daily series
+         */
+        static DailyForecast of(RachioForecastSeries series, int row) {
+            DailyForecast day = new DailyForecast();
+            long time = series.getTime(row);
+            day.date = time != RachioForecastSeries.NO_TIME
+                    ? LocalDate.ofEpochDay(Math.floorDiv(time, RachioForecastSeries.DAILY_PERIOD))
+                    : null;
+            day.highTemperature = boxed(series.get(Column.HIGH_TEMPERATURE, row));
+            day.lowTemperature = boxed(series.get(Column.LOW_TEMPERATURE, row));
+            day.condition = series.getText(TextColumn.CONDITION, row);
+            day.conditionCode = series.getText(TextColumn.CONDITION_CODE, row);
+            day.precipProbability = boxed(series.get(Column.PRECIP_PROBABILITY, row));
+            day.precipAccumulation = boxed(series.get(Column.PRECIP_ACCUMULATION, row));
+            day.precipType = series.getText(TextColumn.PRECIP_TYPE, row);
+            day.humidity = boxed(series.get(Column.HUMIDITY, row));
+            day.windSpeed = boxed(series.get(Column.WIND_SPEED, row));
+            day.windDirection = boxedInt(series.get(Column.WIND_DIRECTION, row));
+            day.cloudCover = boxed(series.get(Column.CLOUD_COVER, row));
+            day.uvIndex = boxed(series.get(Column.UV_INDEX, row));
+            day.sunrise = instant(series.get(Column.SUNRISE, row));
+            day.sunset = instant(series.get(Column.SUNSET, row));
+            day.moonPhase = boxed(series.get(Column.MOON_PHASE, row));
+            day.temperatureHigh = boxed(series.get(Column.TEMPERATURE_HIGH, row));
+            day.temperatureLow = boxed(series.get(Column.TEMPERATURE_LOW, row));
+            day.evapotranspiration = boxed(series.get(Column.EVAPOTRANSPIRATION, row));
+            double smartSkip = series.get(Column.SMART_SKIP, row);
+            day.smartSkip = Double.isNaN(smartSkip) ? null : smartSkip != 0;
+            return day;
+        }
+
         /**
          * Get day of week
          */
@@ -885,13 +935,29 @@ public class RachioForecast {
      */
     public @Nullable DailyForecast getLegacyForecastDay(int index) {
         // First, try the dedicated 'forecastDays' list
-        if (forecastDays != null && index >= 0 && index < forecastDays.size()) {
-            return forecastDays.get(index);
+        if (index >= 0 && index < forecastDays.size()) {
+            return DailyForecast.of(forecastDays, index);
         }
         // Fall back to the main 'daily' list
-        if (daily != null && index >= 0 && index < daily.size()) {
-            return daily.get(index);
+        if (index >= 0 && index < daily.size()) {
+            return DailyForecast.of(daily, index);
         }
         return null;
     }
+
+    private static double zeroIfNaN(double value) {
+        return Double.isNaN(value) ? 0 : value;
+    }
+
+    private static @Nullable Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static @Nullable Integer boxedInt(double value) {
+        return Double.isNaN(value) ? null : (int) value;
+    }
+
+    private static @Nullable Instant instant(double epochSecond) {
+        return Double.isNaN(epochSecond) ? null : Instant.ofEpochSecond((long) epochSecond);
+    }
 }
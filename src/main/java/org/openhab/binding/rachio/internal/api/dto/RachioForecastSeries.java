@@ -0,0 +1,300 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Column oriented storage of an hourly or daily forecast series.
+ * Every measurement is kept in a primitive {@code double[]} per column with NaN for missing values, instead of one
+ * object with boxed fields per row. Columns that never appear in the response are not allocated. Row times are
+ * epoch seconds; when they are evenly spaced by the series period, {@link #indexOf(long)} is a single division.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioForecastSeries {
+
+    /** Row time of a row without timestamp */
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    public static final long HOURLY_PERIOD = 3600;
+    public static final long DAILY_PERIOD = 86400;
+
+    private static final double[] NO_VALUES = new double[0];
+    private static final String[] NO_TEXTS = new String[0];
+
+    public static final RachioForecastSeries EMPTY = new Builder(HOURLY_PERIOD).build();
+
+    /**
+     * Numeric measurements, named after their JSON field.
+     * Times (sunrise, sunset) are stored as epoch seconds, booleans (smartSkip) as 1 and 0.
+     */
+    public enum Column {
+        TEMPERATURE("temperature"),
+        FEELS_LIKE("feelsLike"),
+        HIGH_TEMPERATURE("highTemperature"),
+        LOW_TEMPERATURE("lowTemperature"),
+        TEMPERATURE_HIGH("temperatureHigh"),
+        TEMPERATURE_LOW("temperatureLow"),
+        PRECIP_PROBABILITY("precipProbability"),
+        PRECIP_INTENSITY("precipIntensity"),
+        PRECIP_ACCUMULATION("precipAccumulation"),
+        HUMIDITY("humidity"),
+        WIND_SPEED("windSpeed"),
+        WIND_DIRECTION("windDirection"),
+        CLOUD_COVER("cloudCover"),
+        UV_INDEX("uvIndex"),
+        SUNRISE("sunrise"),
+        SUNSET("sunset"),
+        MOON_PHASE("moonPhase"),
+        EVAPOTRANSPIRATION("evapotranspiration"),
+        SMART_SKIP("smartSkip");
+
+        public final String jsonName;
+
+        Column(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    /**
+     * Text values, named after their JSON field; values are interned
+     */
+    public enum TextColumn {
+        CONDITION("condition"),
+        CONDITION_CODE("conditionCode"),
+        PRECIP_TYPE("precipType");
+
+        public final String jsonName;
+
+        TextColumn(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    private final int size;
+    private final long period;
+    private final long[] times;
+    private final double[][] values;
+    private final String[][] texts;
+    private final boolean evenlySpaced;
+
+    private RachioForecastSeries(int size, long period, long[] times, double[][] values, String[][] texts) {
+        this.size = size;
+        this.period = period;
+        this.times = times;
+        this.values = values;
+        this.texts = texts;
+        boolean even = size > 0;
+        for (int i = 0; i < size && even; i++) {
+            even = times[i] != NO_TIME && (i == 0 || times[i] - times[i - 1] == period);
+        }
+        this.evenlySpaced = even;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param row row index
+     * @return start of the row in epoch seconds, or {@link #NO_TIME}
+     */
+    public long getTime(int row) {
+        return row >= 0 && row < size ? times[row] : NO_TIME;
+    }
+
+    /**
+     * @param column measurement
+     * @param row row index
+     * @return the value, or NaN if missing or the row does not exist
+     */
+    public double get(Column column, int row) {
+        double[] data = values[column.ordinal()];
+        return row >= 0 && row < data.length ? data[row] : Double.NaN;
+    }
+
+    /**
+     * @param column measurement
+     * @param fallback measurement used when the first is missing
+     * @param row row index
+     * @return the value, or NaN if both are missing
+     */
+    public double get(Column column, Column fallback, int row) {
+        double value = get(column, row);
+        return !Double.isNaN(value) ? value : get(fallback, row);
+    }
+
+    /**
+     * @param column text field
+     * @param row row index
+     * @return the value, or null if missing or the row does not exist
+     */
+    public @Nullable String getText(TextColumn column, int row) {
+        String[] data = texts[column.ordinal()];
+        return row >= 0 && row < data.length ? data[row] : null;
+    }
+
+    /**
+     * @param column measurement
+     * @return true if at least one row has a value
+     */
+    public boolean has(Column column) {
+        return values[column.ordinal()].length > 0;
+    }
+
+    /**
+     * @param column text field
+     * @return true if at least one row has a value
+     */
+    public boolean has(TextColumn column) {
+        return texts[column.ordinal()].length > 0;
+    }
+
+    /**
+     * Find the row covering a point in time
+     *
+     * @param epochSecond point in time
+     * @return row index, or -1 if no row covers it
+     */
+    public int indexOf(long epochSecond) {
+        if (size == 0) {
+            return -1;
+        }
+        if (evenlySpaced) {
+            long row = Math.floorDiv(epochSecond - times[0], period);
+            return row >= 0 && row < size ? (int) row : -1;
+        }
+        int row = -1;
+        for (int i = 0; i < size; i++) {
+            long time = times[i];
+            if (time != NO_TIME && time <= epochSecond && epochSecond < time + period) {
+                row = i;
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Maximum of a measurement over the first rows
+     *
+     * @return the maximum, or NaN if no row has a value
+     */
+    public double max(Column column, int rows) {
+        double[] data = values[column.ordinal()];
+        double max = Double.NaN;
+        for (int i = 0; i < Math.min(rows, data.length); i++) {
+            if (!Double.isNaN(data[i]) && (Double.isNaN(max) || data[i] > max)) {
+                max = data[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Sum of a measurement over the first rows, missing values count as 0
+     *
+     * @return the sum, or NaN if no row has a value
+     */
+    public double sum(Column column, int rows) {
+        double[] data = values[column.ordinal()];
+        double sum = Double.NaN;
+        for (int i = 0; i < Math.min(rows, data.length); i++) {
+            if (!Double.isNaN(data[i])) {
+                sum = Double.isNaN(sum) ? data[i] : sum + data[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "RachioForecastSeries{rows=" + size + ", period=" + period + "s}";
+    }
+
+    /**
+     * Collects the rows of a series while it is decoded
+     */
+    public static final class Builder {
+        private final long period;
+        private int size;
+        private long[] times = new long[8];
+        private final double[][] values = new double[Column.values().length][];
+        private final String[][] texts = new String[TextColumn.values().length][];
+
+        /**
+         * @param period length of one row in seconds, {@link #HOURLY_PERIOD} or {@link #DAILY_PERIOD}
+         */
+        public Builder(long period) {
+            this.period = period;
+            Arrays.fill(values, NO_VALUES);
+            Arrays.fill(texts, NO_TEXTS);
+        }
+
+        /**
+         * Start a new row; the setters apply to it until the next row is started
+         */
+        public void addRow() {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+            }
+            times[size++] = NO_TIME;
+        }
+
+        /**
+         * @param epochSecond start of the current row
+         */
+        public void setTime(long epochSecond) {
+            times[size - 1] = epochSecond;
+        }
+
+        public void set(Column column, double value) {
+            int c = column.ordinal();
+            double[] data = values[c];
+            if (data.length < times.length) {
+                int filled = data.length;
+                data = Arrays.copyOf(data, times.length);
+                Arrays.fill(data, filled, data.length, Double.NaN);
+                values[c] = data;
+            }
+            data[size - 1] = value;
+        }
+
+        public void set(TextColumn column, String value) {
+            int c = column.ordinal();
+            String[] data = texts[c];
+            if (data.length < times.length) {
+                data = Arrays.copyOf(data, times.length);
+                texts[c] = data;
+            }
+            data[size - 1] = value.intern();
+        }
+
+        public RachioForecastSeries build() {
+            double[][] trimmedValues = new double[values.length][];
+            for (int c = 0; c < values.length; c++) {
+                double[] data = values[c];
+                if (data.length == 0) {
+                    trimmedValues[c] = NO_VALUES;
+                } else {
+                    // Rows added after the column was last grown have no value
+                    trimmedValues[c] = Arrays.copyOf(data, size);
+                    if (data.length < size) {
+                        Arrays.fill(trimmedValues[c], data.length, size, Double.NaN);
+                    }
+                }
+            }
+            String[][] trimmedTexts = new String[texts.length][];
+            for (int c = 0; c < texts.length; c++) {
+                trimmedTexts[c] = texts[c].length > 0 ? Arrays.copyOf(texts[c], size) : NO_TEXTS;
+            }
+            return new RachioForecastSeries(size, period, Arrays.copyOf(times, size), trimmedValues, trimmedTexts);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * DTO for one zone of a start_multiple request
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioZoneRun {
+
+    @SerializedName("id")
+    public String id;
+
+    @SerializedName("duration")
+    public int duration;
+
+    @SerializedName("sortOrder")
+    public int sortOrder;
+
+    public RachioZoneRun(String id, int duration, int sortOrder) {
+        this.id = id;
+        this.duration = duration;
+        this.sortOrder = sortOrder;
+    }
+}
@@ -0,0 +1,167 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Immutable state of a zone as kept between polls.
+ * Only the fields read by the handlers and discovery are retained, booleans are packed into one flag field and
+ * ids and catalog values (soil, crop, nozzle, ...) are interned, so the strings are shared with every other
+ * snapshot instead of being held once per poll. Snapshots are shared by reference; changes create a new one.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public final class RachioZoneSnapshot {
+
+    private static final int ENABLED = 1;
+    private static final int CUSTOM_SOIL = 1 << 1;
+    private static final int CUSTOM_CROP = 1 << 2;
+    private static final int CUSTOM_NOZZLE = 1 << 3;
+
+    public final String id;
+    public final String deviceId;
+    public final String name;
+    public final int zoneNumber;
+    public final int runtime;
+    public final int duration;
+    public final double efficiency;
+    public final double availableWater;
+    public final double depthOfWater;
+    public final double rootZoneDepth;
+    public final double managementAllowedDepletion;
+    public final double zoneArea;
+    public final @Nullable String soil;
+    public final @Nullable String crop;
+    public final @Nullable String nozzle;
+    public final @Nullable String shade;
+    public final @Nullable String slope;
+    public final @Nullable ZoneRunStatus lastRunStatus;
+    private final int flags;
+
+    private RachioZoneSnapshot(RachioZone zone, String deviceId) {
+        this.id = zone.id.intern();
+        this.deviceId = deviceId.intern();
+        this.name = zone.name.intern();
+        this.zoneNumber = zone.zoneNumber;
+        this.runtime = zone.runtime;
+        this.duration = zone.duration;
+        this.efficiency = zone.efficiency;
+        this.availableWater = zone.availableWater;
+        this.depthOfWater = zone.depthOfWater;
+        this.rootZoneDepth = zone.rootZoneDepth;
+        this.managementAllowedDepletion = zone.managementAllowedDepletion;
+        this.zoneArea = zone.zoneArea;
+        this.soil = intern(zone.soil);
+        this.crop = intern(zone.crop);
+        this.nozzle = intern(zone.nozzle);
+        this.shade = intern(zone.shade);
+        this.slope = intern(zone.slope);
+        this.lastRunStatus = zone.lastRunStatus;
+        this.flags = (zone.enabled ? ENABLED : 0) | (zone.customSoil ? CUSTOM_SOIL : 0)
+                | (zone.customCrop ? CUSTOM_CROP : 0) | (zone.customNozzle ? CUSTOM_NOZZLE : 0);
+    }
+
+    private RachioZoneSnapshot(RachioZoneSnapshot other, int runtime, int flags) {
+        this.id = other.id;
+        this.deviceId = other.deviceId;
+        this.name = other.name;
+        this.zoneNumber = other.zoneNumber;
+        this.runtime = runtime;
+        this.duration = other.duration;
+        this.efficiency = other.efficiency;
+        this.availableWater = other.availableWater;
+        this.depthOfWater = other.depthOfWater;
+        this.rootZoneDepth = other.rootZoneDepth;
+        this.managementAllowedDepletion = other.managementAllowedDepletion;
+        this.zoneArea = other.zoneArea;
+        this.soil = other.soil;
+        this.crop = other.crop;
+        this.nozzle = other.nozzle;
+        this.shade = other.shade;
+        this.slope = other.slope;
+        this.lastRunStatus = other.lastRunStatus;
+        this.flags = flags;
+    }
+
+    /**
+     * Take a snapshot of a decoded zone
+     *
+     * @param zone decoded zone
+     * @param deviceId controller of the zone; the zone DTO does not always carry it
+     * @return the snapshot
+     */
+    public static RachioZoneSnapshot of(RachioZone zone, String deviceId) {
+        String zoneDeviceId = zone.deviceId;
+        return new RachioZoneSnapshot(zone, zoneDeviceId != null && !zoneDeviceId.isEmpty() ? zoneDeviceId : deviceId);
+    }
+
+    public boolean isEnabled() {
+        return (flags & ENABLED) != 0;
+    }
+
+    public boolean isCustomSoil() {
+        return (flags & CUSTOM_SOIL) != 0;
+    }
+
+    public boolean isCustomCrop() {
+        return (flags & CUSTOM_CROP) != 0;
+    }
+
+    public boolean isCustomNozzle() {
+        return (flags & CUSTOM_NOZZLE) != 0;
+    }
+
+    /**
+     * @return a copy with the enabled state changed
+     */
+    public RachioZoneSnapshot withEnabled(boolean enabled) {
+        return new RachioZoneSnapshot(this, runtime, enabled ? flags | ENABLED : flags & ~ENABLED);
+    }
+
+    /**
+     * @return a copy with the default runtime changed
+     */
+    public RachioZoneSnapshot withRuntime(int runtime) {
+        return new RachioZoneSnapshot(this, runtime, flags);
+    }
+
+    private static @Nullable String intern(@Nullable String value) {
+        return value != null ? value.intern() : null;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RachioZoneSnapshot)) {
+            return false;
+        }
+        RachioZoneSnapshot other = (RachioZoneSnapshot) obj;
+        return id.equals(other.id) && deviceId.equals(other.deviceId) && name.equals(other.name)
+                && zoneNumber == other.zoneNumber && runtime == other.runtime && duration == other.duration
+                && flags == other.flags && Double.compare(efficiency, other.efficiency) == 0
+                && Double.compare(availableWater, other.availableWater) == 0
+                && Double.compare(depthOfWater, other.depthOfWater) == 0
+                && Double.compare(rootZoneDepth, other.rootZoneDepth) == 0
+                && Double.compare(managementAllowedDepletion, other.managementAllowedDepletion) == 0
+                && Double.compare(zoneArea, other.zoneArea) == 0 && Objects.equals(soil, other.soil)
+                && Objects.equals(crop, other.crop) && Objects.equals(nozzle, other.nozzle)
+                && Objects.equals(shade, other.shade) && Objects.equals(slope, other.slope)
+                && lastRunStatus == other.lastRunStatus;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, runtime, flags, lastRunStatus);
+    }
+
+    @Override
+    public String toString() {
+        return "RachioZoneSnapshot{id=" + id + ", name=" + name + ", zoneNumber=" + zoneNumber + ", enabled="
+                + isEnabled() + "}";
+    }
+}
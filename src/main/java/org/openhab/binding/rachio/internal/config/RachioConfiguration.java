@@ -20,6 +20,9 @@ public class RachioConfiguration {
     public Integer apiTimeout = 10000; // milliseconds
     public Integer apiRetryCount = 3;
     public Integer apiRetryDelay = 1000; // milliseconds
+    public Integer commandDebounce = 500; // milliseconds
+    public Integer commandCoalesceWindow = 200; // milliseconds
+    public Integer stateRepublishInterval = 0; // seconds, 0 = unchanged channel states are not republished
 
     // Cache Configuration
     public Boolean enableCaching = true;
@@ -99,6 +102,21 @@ public class RachioConfiguration {
             return false;
         }
 
+        // Validate command debounce
+        if (commandDebounce != null && (commandDebounce < 0 || commandDebounce > 10000)) {
+            return false;
+        }
+
+        // Validate command coalesce window
+        if (commandCoalesceWindow != null && (commandCoalesceWindow < 0 || commandCoalesceWindow > 10000)) {
+            return false;
+        }
+
+        // Validate state republish interval
+        if (stateRepublishInterval != null && (stateRepublishInterval < 0 || stateRepublishInterval > 86400)) {
+            return false;
+        }
+
         // Validate cache TTL
         if (defaultCacheTTL != null && (defaultCacheTTL < 10 || defaultCacheTTL > 86400)) {
             return false;
@@ -184,6 +202,18 @@ public class RachioConfiguration {
             errors.append("API retry delay must be between 100 and 10000 milliseconds. ");
         }
 
+        if (commandDebounce != null && (commandDebounce < 0 || commandDebounce > 10000)) {
+            errors.append("Command debounce must be between 0 and 10000 milliseconds. ");
+        }
+
+        if (commandCoalesceWindow != null && (commandCoalesceWindow < 0 || commandCoalesceWindow > 10000)) {
+            errors.append("Command coalesce window must be between 0 and 10000 milliseconds. ");
+        }
+
+        if (stateRepublishInterval != null && (stateRepublishInterval < 0 || stateRepublishInterval > 86400)) {
+            errors.append("State republish interval must be between 0 and 86400 seconds. ");
+        }
+
         if (defaultCacheTTL != null && (defaultCacheTTL < 10 || defaultCacheTTL > 86400)) {
             errors.append("Default cache TTL must be between 10 and 86400 seconds. ");
         }
@@ -283,6 +313,26 @@ public class RachioConfiguration {
         return 5;
     }
 
+    /**
+     * Get effective maximum of concurrent API requests
+     */
+    public int getEffectiveMaxConcurrentRequests() {
+        if (maxConcurrentRequests != null && maxConcurrentRequests >= 1) {
+            return maxConcurrentRequests;
+        }
+        return 10;
+    }
+
+    /**
+     * Get effective request queue size
+     */
+    public int getEffectiveRequestQueueSize() {
+        if (requestQueueSize != null && requestQueueSize >= 0) {
+            return requestQueueSize;
+        }
+        return 100;
+    }
+
     /**
      * Get effective API timeout
      */
@@ -293,6 +343,56 @@ public class RachioConfiguration {
         return 10000;
     }
 
+    /**
+     * Get effective API retry count
+     */
+    public int getEffectiveApiRetryCount() {
+        if (apiRetryCount != null && apiRetryCount >= 0) {
+            return apiRetryCount;
+        }
+        return 3;
+    }
+
+    /**
+     * Get effective API retry delay
+     */
+    public int getEffectiveApiRetryDelay() {
+        if (apiRetryDelay != null && apiRetryDelay >= 100) {
+            return apiRetryDelay;
+        }
+        return 1000;
+    }
+
+    /**
+     * Get effective command debounce interval in milliseconds (0 disables debouncing)
+     */
+    public int getEffectiveCommandDebounce() {
+        if (commandDebounce != null && commandDebounce >= 0) {
+            return commandDebounce;
+        }
+        return 500;
+    }
+
+    /**
+     * Get effective window in milliseconds within which zone starts are sent as one request (0 disables)
+     */
+    public int getEffectiveCommandCoalesceWindow() {
+        if (commandCoalesceWindow != null && commandCoalesceWindow >= 0) {
+            return commandCoalesceWindow;
+        }
+        return 200;
+    }
+
+    /**
+     * Get effective interval in seconds after which an unchanged channel state is published again (0 never)
+     */
+    public int getEffectiveStateRepublishInterval() {
+        if (stateRepublishInterval != null && stateRepublishInterval >= 0) {
+            return stateRepublishInterval;
+        }
+        return 0;
+    }
+
     /**
      * Get effective cache TTL
      */
@@ -376,10 +476,13 @@ public class RachioConfiguration {
         updateIntConfig(config, "requestQueueSize", v -> requestQueueSize = v);
 
         // API Configuration
-        apiBaseUrl = (String) config.get("apiBaseUrl");
+        updateStringConfig(config, "apiBaseUrl", v -> apiBaseUrl = v);
         updateIntConfig(config, "apiTimeout", v -> apiTimeout = v);
         updateIntConfig(config, "apiRetryCount", v -> apiRetryCount = v);
         updateIntConfig(config, "apiRetryDelay", v -> apiRetryDelay = v);
+        updateIntConfig(config, "commandDebounce", v -> commandDebounce = v);
+        updateIntConfig(config, "commandCoalesceWindow", v -> commandCoalesceWindow = v);
+        updateIntConfig(config, "stateRepublishInterval", v -> stateRepublishInterval = v);
 
         // Cache Configuration
         updateBoolConfig(config, "enableCaching", v -> enableCaching = v);
@@ -392,7 +495,7 @@ public class RachioConfiguration {
         updateIntConfig(config, "discoveryTimeout", v -> discoveryTimeout = v);
 
         // Webhook Configuration
-        webhookBasePath = (String) config.get("webhookBasePath");
+        updateStringConfig(config, "webhookBasePath", v -> webhookBasePath = v);
         updateBoolConfig(config, "webhookEnabled", v -> webhookEnabled = v);
         updateIntConfig(config, "webhookPort", v -> webhookPort = v);
         updateBoolConfig(config, "webhookSSL", v -> webhookSSL = v);
@@ -403,7 +506,7 @@ public class RachioConfiguration {
         updateIntConfig(config, "imageTimeout", v -> imageTimeout = v);
 
         // Logging Configuration
-        logLevel = (String) config.get("logLevel");
+        updateStringConfig(config, "logLevel", v -> logLevel = v);
         updateBoolConfig(config, "logApiRequests", v -> logApiRequests = v);
         updateBoolConfig(config, "logApiResponses", v -> logApiResponses = v);
         updateIntConfig(config, "logMaxSize", v -> logMaxSize = v);
@@ -443,6 +546,9 @@ public class RachioConfiguration {
         config.put("apiTimeout", apiTimeout);
         config.put("apiRetryCount", apiRetryCount);
         config.put("apiRetryDelay", apiRetryDelay);
+        config.put("commandDebounce", commandDebounce);
+        config.put("commandCoalesceWindow", commandCoalesceWindow);
+        config.put("stateRepublishInterval", stateRepublishInterval);
 
         // Cache Configuration
         config.put("enableCaching", enableCaching);
@@ -508,6 +614,10 @@ public class RachioConfiguration {
         void accept(boolean value);
     }
 
+    private interface StringConsumer {
+        void accept(String value);
+    }
+
     private void updateIntConfig(Configuration config, String key, IntConsumer setter) {
         Object obj = config.get(key);
         if (obj instanceof Number) {
@@ -521,6 +631,13 @@ public class RachioConfiguration {
         }
     }
 
+    private void updateStringConfig(Configuration config, String key, StringConsumer setter) {
+        Object obj = config.get(key);
+        if (obj instanceof String) {
+            setter.accept((String) obj);
+        }
+    }
+
     private void updateBoolConfig(Configuration config, String key, BoolConsumer setter) {
         Object obj = config.get(key);
         if (obj instanceof Boolean) {
@@ -12,8 +12,11 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.api.RachioApiClient;
+import org.openhab.binding.rachio.internal.api.RachioRequestPriority;
 import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
 import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 import org.openhab.binding.rachio.internal.handler.RachioBridgeHandler;
 import org.openhab.binding.rachio.internal.handler.RachioStatusListener;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -133,18 +136,18 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
 
         try {
             // Get person info directly from API
-            var personInfo = apiClient.getPersonInfo();
+            var personInfo = apiClient.getPersonInfo(RachioRequestPriority.BACKGROUND);
             if (personInfo == null || personInfo.id == null || personInfo.id.isEmpty()) {
                 logger.debug("Person info not available for discovery");
                 return;
             }
 
             // Get devices
-            List<RachioDevice> devices = apiClient.getDevices();
+            List<RachioDevice> devices = apiClient.getDevices(RachioRequestPriority.BACKGROUND);
             if (devices != null && !devices.isEmpty()) {
                 for (RachioDevice device : devices) {
                     if (device != null && device.id != null && !device.id.isEmpty()) {
-                        deviceDiscovered(device);
+                        deviceDiscovered(RachioDeviceSnapshot.of(device));
                     }
                 }
             }
@@ -153,17 +156,17 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
         }
     }
 
-    public void onDeviceDiscovered(RachioDevice device) {
+    public void onDeviceDiscovered(RachioDeviceSnapshot device) {
         logger.debug("Bridge reported device discovered: {}", device.id);
         deviceDiscovered(device);
     }
 
-    public void onZoneDiscovered(String deviceId, RachioZone zone) {
+    public void onZoneDiscovered(String deviceId, RachioZoneSnapshot zone) {
         logger.debug("Bridge reported zone discovered: device={}, zone={}", deviceId, zone.id);
         zoneDiscovered(deviceId, zone);
     }
 
-    private void deviceDiscovered(RachioDevice device) {
+    private void deviceDiscovered(RachioDeviceSnapshot device) {
 
         RachioBridgeHandler localBridgeHandler = bridgeHandler;
         if (localBridgeHandler == null) {
@@ -187,7 +190,7 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
             properties.put(DEVICE_PROP_STATUS, deviceStatus);
         }
 
-        String deviceSerial = device.getSerialNumberSafe();
+        String deviceSerial = device.serialNumber;
         if (deviceSerial != null && !deviceSerial.isEmpty()) {
             properties.put(DEVICE_PROP_SERIAL, deviceSerial);
         }
@@ -197,20 +200,17 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
             properties.put(DEVICE_PROP_MODEL, deviceModel);
         }
 
-        String deviceMac = device.getMacAddressNonNull();
+        String deviceMac = device.macAddress;
         if (deviceMac != null && !deviceMac.isEmpty()) {
             properties.put(DEVICE_PROP_MAC, deviceMac);
         }
 
-        List<RachioZone> deviceZones = device.zones;
-        if (deviceZones != null) {
-            properties.put(DEVICE_PROP_ZONECOUNT, Integer.toString(deviceZones.size()));
+        properties.put(DEVICE_PROP_ZONECOUNT, Integer.toString(device.zones.size()));
 
-            // Discover zones for this device
-            for (RachioZone zone : deviceZones) {
-                if (zone != null && zone.id != null && !zone.id.isEmpty()) {
-                    zoneDiscovered(device.id, zone);
-                }
+        // Discover zones for this device
+        for (RachioZoneSnapshot zone : device.zones) {
+            if (!zone.id.isEmpty()) {
+                zoneDiscovered(device.id, zone);
             }
         }
 
@@ -220,7 +220,7 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
                         .withRepresentationProperty(DEVICE_PROP_ID).build());
     }
 
-    private void zoneDiscovered(String deviceId, RachioZone zone) {
+    private void zoneDiscovered(String deviceId, RachioZoneSnapshot zone) {
 
         RachioBridgeHandler localBridgeHandler = bridgeHandler;
         if (localBridgeHandler == null) {
@@ -241,11 +241,11 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
         }
 
         properties.put(ZONE_PROP_NUMBER, Integer.toString(zone.zoneNumber));
-        properties.put(ZONE_PROP_ENABLED, Boolean.toString(zone.enabled));
+        properties.put(ZONE_PROP_ENABLED, Boolean.toString(zone.isEnabled()));
 
-        properties.put(ZONE_PROP_SOIL, Boolean.toString(zone.customSoil));
-        properties.put(ZONE_PROP_CROP, Boolean.toString(zone.customCrop));
-        properties.put(ZONE_PROP_NOZZLE, Boolean.toString(zone.customNozzle));
+        properties.put(ZONE_PROP_SOIL, Boolean.toString(zone.isCustomSoil()));
+        properties.put(ZONE_PROP_CROP, Boolean.toString(zone.isCustomCrop()));
+        properties.put(ZONE_PROP_NOZZLE, Boolean.toString(zone.isCustomNozzle()));
 
         properties.put(ZONE_PROP_EFFICIENCY, Double.toString(zone.efficiency));
 
@@ -276,7 +276,7 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
     }
 
     @Override
-    public void onDeviceStatusChanged(@Nullable RachioDevice device) {
+    public void onDeviceStatusChanged(@Nullable RachioDeviceSnapshot device) {
         if (device != null && device.id != null) {
             logger.debug("Device status changed: {}", device.id);
         }
@@ -290,7 +290,7 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
     }
 
     @Override
-    public void onDeviceUpdated(@Nullable RachioDevice device) {
+    public void onDeviceUpdated(@Nullable RachioDeviceSnapshot device) {
         if (device != null && device.id != null) {
             logger.debug("Device updated: {}", device.id);
             deviceDiscovered(device);
@@ -298,7 +298,7 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
     }
 
     @Override
-    public void onZoneUpdated(@Nullable String deviceId, @Nullable RachioZone zone) {
+    public void onZoneUpdated(@Nullable String deviceId, @Nullable RachioZoneSnapshot zone) {
         if (deviceId != null && zone != null && zone.id != null) {
             logger.debug("Zone updated: device={}, zone={}", deviceId, zone.id);
             zoneDiscovered(deviceId, zone);
@@ -320,9 +320,9 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
             if (apiClient == null)
                 return;
 
-            RachioDevice device = apiClient.getDevice(deviceId);
+            RachioDevice device = apiClient.getDevice(deviceId, RachioRequestPriority.BACKGROUND);
             if (device != null)
-                deviceDiscovered(device);
+                deviceDiscovered(RachioDeviceSnapshot.of(device));
         } catch (Exception e) {
             logger.debug("Error discovering new device {}: {}", deviceId, e.getMessage(), e);
         }
@@ -343,11 +343,11 @@ public class RachioDiscoveryService extends AbstractDiscoveryService
             if (apiClient == null)
                 return;
 
-            List<RachioZone> zones = apiClient.getZones(deviceId);
+            List<RachioZone> zones = apiClient.getZones(deviceId, RachioRequestPriority.BACKGROUND);
             if (zones != null) {
                 for (RachioZone zone : zones) {
                     if (zone != null && zoneId.equals(zone.id)) {
-                        zoneDiscovered(deviceId, zone);
+                        zoneDiscovered(deviceId, RachioZoneSnapshot.of(zone, deviceId));
                         break;
                     }
                 }
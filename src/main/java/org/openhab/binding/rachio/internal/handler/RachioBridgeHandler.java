@@ -1,33 +1,57 @@
 package org.openhab.binding.rachio.internal.handler;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.RachioBindingConstants;
 import org.openhab.binding.rachio.internal.api.RachioApiClient;
+import org.openhab.binding.rachio.internal.api.RachioApiException;
+import org.openhab.binding.rachio.internal.api.RachioCircuitBreaker;
+import org.openhab.binding.rachio.internal.api.RachioCircuitBreaker.EndpointFamily;
+import org.openhab.binding.rachio.internal.api.RachioEvent;
+import org.openhab.binding.rachio.internal.api.RachioGson;
 import org.openhab.binding.rachio.internal.api.RachioHttp;
+import org.openhab.binding.rachio.internal.api.RachioProjection;
+import org.openhab.binding.rachio.internal.api.RachioQuotaScheduler;
+import org.openhab.binding.rachio.internal.api.RachioRequestDispatcher;
 import org.openhab.binding.rachio.internal.api.RachioWebHookServletService;
 import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
-import org.openhab.binding.rachio.internal.api.dto.RachioPerson;
-import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.DeviceChange;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.ZoneChange;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneRun;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 import org.openhab.binding.rachio.internal.config.RachioBridgeConfiguration;
+import org.openhab.binding.rachio.internal.config.RachioConfiguration;
 import org.openhab.binding.rachio.internal.discovery.RachioDiscoveryService;
+import org.openhab.binding.rachio.internal.handler.RachioStatusListener.Topic;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ChannelTypeUID;
@@ -36,6 +60,8 @@ import org.openhab.core.types.RefreshType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonParseException;
+
 /**
  * The {@link RachioBridgeHandler} is responsible for handling commands, which are
  * sent to one of the channels.
@@ -43,10 +69,26 @@ import org.slf4j.LoggerFactory;
  * @author Damion Boyett - Refactor contribution
  */
 @NonNullByDefault
-public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp.RateLimitCallback {
+public class RachioBridgeHandler extends BaseBridgeHandler
+        implements RachioHttp.RateLimitCallback, RachioCircuitBreaker.StateListener {
 
     private final Logger logger = LoggerFactory.getLogger(RachioBridgeHandler.class);
 
+    private static final int CALLS_PER_POLL = 1; // one person request returns all devices and zones
+    private static final int STATUS_CALLS_PER_DEVICE = 1; // device refresh of the device handler
+    private static final int BACKGROUND_CALLS_PER_DEVICE = 2; // savings and forecast
+    private static final int MAX_ZONES_PER_START = 16; // largest Rachio controller
+    // How often the published states of the children are checked; bounds the accuracy of the republish interval
+    private static final Duration REPUBLISH_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+    // Fields read by the device and zone handlers and by discovery; schedule rules, forecasts and the other
+    // parts of the person document are skipped while decoding the poll response
+    private static final RachioProjection POLL_PROJECTION = RachioProjection.parse("devices[id,name,status,serial,"
+            + "serialNumber,model,macAddress,paused,enabled,deleted,createdDate,rainDelayExpiration,zones[id,"
+            + "zoneNumber,name,enabled,deviceId,customNozzle,customSoil,customCrop,soil,crop,nozzle,shade,slope,"
+            + "efficiency,runtime,duration,depthOfWater,availableWater,rootZoneDepth,managementAllowedDepletion,"
+            + "zoneArea,lastRunStatus]]");
+
     // Services passed via constructor
     private final HttpClientFactory httpClientFactory;
     private final ScheduledExecutorService scheduler;
@@ -59,11 +101,17 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
     private @Nullable ScheduledFuture<?> pollingJob;
     private @Nullable ScheduledFuture<?> webhookRegistrationJob;
     private @Nullable ScheduledFuture<?> adaptivePollingAdjustmentJob;
-
-    private final List<RachioStatusListener> statusListeners = new CopyOnWriteArrayList<>();
-    private final List<RachioZoneHandler> zoneHandlers = new CopyOnWriteArrayList<>();
-    private final Map<String, RachioDevice> discoveredDevices = new HashMap<>();
-    private final Map<String, List<RachioZone>> deviceZones = new HashMap<>();
+    private @Nullable ScheduledFuture<?> republishJob;
+
+    private volatile Duration stateRepublishInterval = Duration.ZERO;
+    // Zone starts issued this close together share one request
+    private volatile long coalesceWindowMillis = new RachioConfiguration().getEffectiveCommandCoalesceWindow();
+    // Listeners by topic and the device or zone id they own; events are delivered on the scheduler
+    private final RachioListenerRouter router;
+    // Latest snapshot per device, replaced as a whole by each poll; the zones are part of the snapshot
+    private final Map<String, RachioDeviceSnapshot> discoveredDevices = new ConcurrentHashMap<>();
+    // Zone lookup by id across all devices, kept in step with discoveredDevices
+    private final Map<String, RachioZoneSnapshot> zoneIndex = new ConcurrentHashMap<>();
 
     // ===== Rate limit tracking =====
     private int rateLimitRemaining = 1500;
@@ -72,6 +120,18 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
     private String rateLimitStatus = "NORMAL";
     private int currentPollingInterval = 120; // Default from README: 120 seconds
 
+    // ===== Guards against overlapping polls while a slow request is still outstanding =====
+    private final AtomicBoolean pollInProgress = new AtomicBoolean(false);
+
+    // ===== Zone commands waiting to be sent, persisted across outages and restarts =====
+    private @Nullable RachioCommandOutbox outbox;
+    private final AtomicBoolean replayInProgress = new AtomicBoolean(false);
+    private final Map<String, CompletableFuture<Void>> commandCompletions = new ConcurrentHashMap<>();
+    private final RachioCommandReducer commandReducer;
+
+    // ===== Set while the bridge is OFFLINE because the person/device circuit is open =====
+    private volatile boolean offlineByCircuit = false;
+
     // ===== Flag to track if channels have been created =====
     private boolean channelsCreated = false;
 
@@ -87,6 +147,9 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
         super(bridge);
         this.httpClientFactory = httpClientFactory;
         this.scheduler = scheduler;
+        this.router = new RachioListenerRouter(scheduler);
+        this.commandReducer = new RachioCommandReducer(scheduler,
+                new RachioConfiguration().getEffectiveCommandDebounce());
         logger.debug("RachioBridgeHandler created with service injection");
     }
 
@@ -131,14 +194,39 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
 
         createRateLimitChannels();
 
+        // Prepare the JSON adapters off the thing handler thread, ahead of the first poll
+        scheduler.execute(RachioGson::warmUp);
         this.apiClient = new RachioApiClient();
         this.apiClient.initialize(validatedApiKey);
         logger.debug("API client initialized with provided key");
 
-        RachioHttp.setRateLimitCallback(this);
+        RachioConfiguration bindingConfig = new RachioConfiguration();
+        bindingConfig.updateFromConfiguration(getConfig());
+        this.apiClient.configure(bindingConfig);
+        updateCallMix(null);
+        commandReducer.setDebounceMillis(bindingConfig.getEffectiveCommandDebounce());
+        coalesceWindowMillis = bindingConfig.getEffectiveCommandCoalesceWindow();
+        stateRepublishInterval = Duration.ofSeconds(bindingConfig.getEffectiveStateRepublishInterval());
+        // Calls without a deadline of their own give up after the configured bridge timeout
+        this.apiClient.getHttp().setCallTimeout(Duration.ofSeconds(config.getTimeout()));
+
+        this.apiClient.getHttp().setRateLimitCallback(this);
+        this.apiClient.getHttp().setCircuitBreakerListener(this);
         logger.debug("Registered rate limit callback with RachioHttp");
 
+        RachioCommandOutbox localOutbox = new RachioCommandOutbox(
+                "outbox-" + getThing().getUID().getAsString() + ".jsonl", scheduler);
+        try {
+            localOutbox.open();
+        } catch (IOException e) {
+            logger.warn("Cannot open Rachio command outbox, queued commands will not survive a restart: {}",
+                    e.getMessage());
+        }
+        this.outbox = localOutbox;
+        scheduler.submit(this::updateCircuitBreakerState);
+
         startPolling();
+        startRepublishing();
 
         String callbackUrlValue = config.callbackUrl;
         if (callbackUrlValue != null && !callbackUrlValue.trim().isEmpty()) {
@@ -217,10 +305,23 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
                 logger.debug("Created channel: {}", RachioBindingConstants.CHANNEL_RATE_LIMIT_RESET);
             }
 
+            // ===== CHANNEL 5: circuitBreakerState =====
+            ChannelUID circuitChannelUID = new ChannelUID(getThing().getUID(),
+                    RachioBindingConstants.CHANNEL_CIRCUIT_BREAKER_STATE);
+            if (getThing().getChannel(circuitChannelUID) == null) {
+                ChannelTypeUID channelTypeUID = RachioBindingConstants.CHANNEL_TYPE_CIRCUIT_BREAKER_STATE;
+                ChannelBuilder channelBuilder = ChannelBuilder.create(circuitChannelUID, "String")
+                        .withType(channelTypeUID).withLabel("API Circuit State")
+                        .withDescription("CLOSED, or the endpoint families whose circuit is open");
+                thingBuilder.withChannel(channelBuilder.build());
+                modified = true;
+                logger.debug("Created channel: {}", RachioBindingConstants.CHANNEL_CIRCUIT_BREAKER_STATE);
+            }
+
             if (modified) {
                 updateThing(thingBuilder.build());
                 channelsCreated = true;
-                logger.info("Successfully created all 4 rate limit dashboard channels");
+                logger.info("Successfully created all 5 rate limit dashboard channels");
             } else {
                 logger.debug("All rate limit channels already exist");
                 channelsCreated = true;
@@ -238,12 +339,27 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
         stopPolling();
         cancelWebhookRegistration();
         stopAdaptivePollingAdjustment();
+        stopRepublishing();
+
+        RachioApiClient client = apiClient;
+
+        commandReducer.dispose();
+        RachioCommandOutbox localOutbox = outbox;
+        if (localOutbox != null) {
+            localOutbox.close();
+            outbox = null;
+        }
+        // Commands still queued are sent after the next start; nobody is waiting for them any more
+        commandCompletions.values().forEach(completion -> completion.cancel(false));
+        commandCompletions.clear();
 
         // ===== Unregister rate limit callback =====
-        RachioHttp.setRateLimitCallback(null);
-        logger.debug("Unregistered rate limit callback");
+        if (client != null) {
+            client.getHttp().setRateLimitCallback(null);
+            client.getHttp().setCircuitBreakerListener(null);
+            logger.debug("Unregistered rate limit callback");
+        }
 
-        RachioApiClient client = apiClient;
         String callbackUrlValue = config.callbackUrl;
         if (client != null && callbackUrlValue != null && !callbackUrlValue.trim().isEmpty()) {
             try {
@@ -253,15 +369,25 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
             }
         }
 
-        statusListeners.clear();
-        zoneHandlers.clear();
+        // Children remove their own subscriptions when they are disposed
+        router.discardQueuedEvents();
         discoveredDevices.clear();
-        deviceZones.clear();
+        zoneIndex.clear();
         channelsCreated = false;
 
         super.dispose();
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        updateCallMix(null);
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        updateCallMix(childHandler);
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
@@ -288,6 +414,47 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
         });
     }
 
+    /**
+     * ===== Circuit breaker state from RachioHttp =====
+     * Publishes the state on the bridge channel. While the person or device circuit is open the
+     * Rachio cloud is considered unreachable and the bridge goes OFFLINE; it returns ONLINE once they close.
+     */
+    @Override
+    public void onStateChanged(EndpointFamily family, RachioCircuitBreaker.State state) {
+        scheduler.submit(this::updateCircuitBreakerState);
+    }
+
+    private void updateCircuitBreakerState() {
+        RachioApiClient client = apiClient;
+        if (client == null) {
+            return;
+        }
+
+        RachioHttp http = client.getHttp();
+        StringBuilder open = new StringBuilder();
+        for (EndpointFamily family : EndpointFamily.values()) {
+            RachioCircuitBreaker.State state = http.getCircuitState(family);
+            if (state != RachioCircuitBreaker.State.CLOSED) {
+                open.append(open.length() > 0 ? ", " : "").append(family).append('=').append(state);
+            }
+        }
+        String summary = open.length() > 0 ? open.toString() : RachioCircuitBreaker.State.CLOSED.name();
+        updateState(RachioBindingConstants.CHANNEL_CIRCUIT_BREAKER_STATE, new StringType(summary));
+
+        RachioCircuitBreaker.State person = http.getCircuitState(EndpointFamily.PERSON);
+        RachioCircuitBreaker.State device = http.getCircuitState(EndpointFamily.DEVICE);
+        if (person == RachioCircuitBreaker.State.OPEN || device == RachioCircuitBreaker.State.OPEN) {
+            offlineByCircuit = true;
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "Rachio cloud unreachable, API circuit open: " + summary);
+        } else if (offlineByCircuit && person == RachioCircuitBreaker.State.CLOSED
+                && device == RachioCircuitBreaker.State.CLOSED) {
+            offlineByCircuit = false;
+            updateStatus(ThingStatus.ONLINE);
+            replayOutbox();
+        }
+    }
+
     /**
      * Update rate limit state and trigger adaptive polling adjustments.
      * This method runs on the scheduler thread for thread safety.
@@ -354,47 +521,70 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
      * @param status Status string
      */
     private void notifyRateLimitListeners(int remaining, int limit, String status) {
-        for (RachioStatusListener listener : statusListeners) {
-            try {
-                listener.onRateLimitStatusChanged(remaining, limit, status);
-            } catch (Exception e) {
-                logger.debug("Error notifying rate limit listener {}: {}", listener.getListenerId(), e.getMessage());
-            }
-        }
+        router.dispatch(Topic.RATE_LIMIT, null,
+                listener -> listener.onRateLimitStatusChanged(remaining, limit, status));
     }
 
     /**
-     * Apply adaptive polling based on rate limit status.
-     * - Normal: Polls every 120 seconds
-     * - Warning (10%): Slows to 240-second intervals
-     * - Critical (2%): Slows to 360-second intervals
+     * Apply adaptive polling based on the quota scheduler's budget.
+     * The polling interval is stretched so the remaining calls last until the rate limit resets;
+     * it never drops below the configured interval. Commands keep their reserve in the scheduler.
      * 
      * @param percent Percentage of calls remaining
      * @param status Status string
      */
     private void applyAdaptivePolling(int percent, String status) {
-        int newInterval;
-
-        if (percent <= 2) {
-            newInterval = 360; // Critical: 360 seconds (6 minutes)
-            logger.warn("Rate limit CRITICAL ({}%). Adjusting polling to {} seconds.", percent, newInterval);
-        } else if (percent <= 10) {
-            newInterval = 240; // Warning: 240 seconds (4 minutes)
-            logger.info("Rate limit WARNING ({}%). Adjusting polling to {} seconds.", percent, newInterval);
-        } else {
-            newInterval = config.getPollingInterval(); // Normal: use configured interval
+        RachioApiClient client = apiClient;
+        if (client == null) {
+            return;
         }
 
+        RachioQuotaScheduler quota = client.getHttp().getQuotaScheduler();
+        int devices = countDeviceHandlers(null);
+        int callsPerPoll = CALLS_PER_POLL + (STATUS_CALLS_PER_DEVICE + BACKGROUND_CALLS_PER_DEVICE) * devices;
+        int newInterval = quota.getRecommendedPollingInterval(config.getPollingInterval(), callsPerPoll);
+
         // Only restart polling if interval changed AND we're not already at this interval
         if (newInterval != currentPollingInterval) {
-            logger.debug("Adaptive polling adjustment: {}s -> {}s (status: {})", currentPollingInterval, newInterval,
-                    status);
+            if (RachioBindingConstants.STATUS_CRITICAL.equals(status)) {
+                logger.warn("Rate limit CRITICAL ({}%). Adjusting polling to {} seconds.", percent, newInterval);
+            } else if (RachioBindingConstants.STATUS_WARNING.equals(status)) {
+                logger.info("Rate limit WARNING ({}%). Adjusting polling to {} seconds.", percent, newInterval);
+            }
+            logger.debug("Adaptive polling adjustment: {}s -> {}s (status: {}, {} calls left)",
+                    currentPollingInterval, newInterval, status, quota.getEstimatedRemaining());
 
             currentPollingInterval = newInterval;
             restartPollingWithNewInterval(newInterval);
         }
     }
 
+    /**
+     * Tell the quota scheduler what one polling cycle costs: the poll, and for every device thing its device
+     * refresh as status calls and its savings and forecast as background calls
+     *
+     * @param disposed child handler that is being disposed and must not be counted, or null
+     */
+    private void updateCallMix(@Nullable ThingHandler disposed) {
+        RachioApiClient client = apiClient;
+        if (client != null) {
+            int devices = countDeviceHandlers(disposed);
+            client.getHttp().getQuotaScheduler().setCallMix(CALLS_PER_POLL + STATUS_CALLS_PER_DEVICE * devices,
+                    BACKGROUND_CALLS_PER_DEVICE * devices);
+        }
+    }
+
+    private int countDeviceHandlers(@Nullable ThingHandler disposed) {
+        int count = 0;
+        for (Thing child : getThing().getThings()) {
+            ThingHandler handler = child.getHandler();
+            if (handler instanceof RachioDeviceHandler && handler != disposed) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Restart polling with a new interval.
      * 
@@ -452,90 +642,156 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
             return;
         }
 
-        try {
-            RachioPerson person = client.getPersonInfo();
-            if (person != null && person.devices != null) {
-                for (RachioDevice device : person.devices) {
-                    processDevice(device);
+        if (!pollInProgress.compareAndSet(false, true)) {
+            logger.debug("Previous poll still in progress, skipping this cycle");
+            return;
+        }
+
+        // The request runs on the HTTP client's executor; the scheduler thread is released immediately
+        client.getPersonInfoAsync(POLL_PROJECTION).whenComplete((person, error) -> {
+            try {
+                if (error != null) {
+                    RachioApiException e = RachioApiException.from(error);
+                    logger.warn("Error polling Rachio devices: {}", e.getMessage());
+                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+                    return;
                 }
-            }
 
-            updateStatus(ThingStatus.ONLINE);
-        } catch (Exception e) {
-            logger.warn("Error polling Rachio devices: {}", e.getMessage());
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-        }
+                if (person != null && person.devices != null) {
+                    for (RachioDevice device : person.devices) {
+                        processDevice(device);
+                    }
+                }
+
+                updateStatus(ThingStatus.ONLINE);
+                replayOutbox();
+            } catch (Exception e) {
+                logger.warn("Error processing Rachio devices: {}", e.getMessage());
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+            } finally {
+                pollInProgress.set(false);
+                RachioRequestDispatcher dispatcher = client.getHttp().getDispatcher();
+                logger.debug("Request queue: {} waiting, {} in flight, wait avg {} ms / max {} ms, {} rejected",
+                        dispatcher.getQueueDepth(), dispatcher.getInFlight(), dispatcher.getAverageWaitMillis(),
+                        dispatcher.getMaxWaitMillis(), dispatcher.getRejectedCount());
+                logListenerLag();
+            }
+        });
     }
 
-    private void processDevice(RachioDevice device) {
-        String deviceId = device.id;
+    private void processDevice(RachioDevice decoded) {
+        String deviceId = decoded.id;
         if (deviceId == null) {
             logger.warn("Device has null ID, skipping processing");
             return;
         }
 
+        // One snapshot per poll, shared by the bridge, the handlers and discovery
+        RachioDeviceSnapshot device = RachioDeviceSnapshot.of(decoded);
+        RachioDeviceSnapshot previous = discoveredDevices.get(deviceId);
+        RachioDeviceDelta delta = RachioDeviceDelta.between(previous, device);
+        if (previous != null && delta.isEmpty()) {
+            // Keep the previous instance so handlers holding it still see the current state
+            logger.trace("Device {} unchanged since last poll", deviceId);
+            Instant rainDelayExpiration = previous.rainDelayExpiration;
+            if (rainDelayExpiration != null && rainDelayExpiration.isAfter(Instant.now())) {
+                // The remaining rain delay counts down, so its owner still needs every poll while it lasts
+                router.dispatchExact(Topic.DEVICE, deviceId, listener -> listener.onDeviceChanged(previous, delta));
+            }
+            return;
+        }
         discoveredDevices.put(deviceId, device);
+        logger.debug("Device {} changed: {}", deviceId, delta);
+        indexZones(device, delta);
 
         RachioDiscoveryService discovery = discoveryService;
-        if (discovery != null) {
+        // Discovery results only carry ids and labels
+        if (discovery != null && (delta.has(DeviceChange.ADDED) || delta.has(DeviceChange.PROPERTIES)
+                || delta.has(DeviceChange.ZONES) || delta.has(ZoneChange.PROPERTIES))) {
             discovery.onDeviceDiscovered(device);
-        }
-
-        List<RachioZone> zones = device.zones;
-        if (zones != null) {
-            deviceZones.put(deviceId, zones);
-            if (discovery != null) {
-                for (RachioZone zone : zones) {
-                    discovery.onZoneDiscovered(deviceId, zone);
-                }
+            for (RachioZoneSnapshot zone : device.zones) {
+                discovery.onZoneDiscovered(deviceId, zone);
             }
         }
 
-        // Notify all status listeners
-        for (RachioStatusListener listener : statusListeners) {
-            listener.onDeviceUpdated(device);
+        router.dispatch(Topic.DEVICE, deviceId, listener -> listener.onDeviceChanged(device, delta));
+        // Zone handlers only hear about their own zone, and only if it changed
+        for (String zoneId : delta.getZoneChanges().keySet()) {
+            router.dispatchExact(Topic.ZONE, zoneId, listener -> listener.onDeviceChanged(device, delta));
         }
+    }
 
-        // Notify all zone handlers
-        for (RachioZoneHandler zoneHandler : zoneHandlers) {
-            zoneHandler.onDeviceUpdated(device);
+    private void indexZones(RachioDeviceSnapshot device, RachioDeviceDelta delta) {
+        for (String zoneId : delta.getRemovedZones()) {
+            zoneIndex.remove(zoneId);
+        }
+        RachioApiClient client = apiClient;
+        for (String zoneId : delta.getZoneChanges().keySet()) {
+            RachioZoneSnapshot zone = device.getZone(zoneId);
+            if (zone != null) {
+                zoneIndex.put(zoneId, zone);
+                if (client != null && delta.getZoneChanges(zoneId).contains(ZoneChange.ADDED)) {
+                    client.rememberZone(zoneId, device.id);
+                }
+            }
         }
     }
 
-    public void registerStatusListener(RachioStatusListener listener) {
-        if (!statusListeners.contains(listener)) {
-            statusListeners.add(listener);
-            logger.debug("Registered status listener: {}", listener.getListenerId());
+    /**
+     * Log queue depth, delivery lag and losses of the listeners that fell behind
+     */
+    private void logListenerLag() {
+        for (RachioListenerMailbox mailbox : router.getMailboxes()) {
+            if (mailbox.getQueueDepth() > 0 || mailbox.getCoalescedCount() > 0 || mailbox.getDroppedCount() > 0) {
+                logger.debug("Listener {}: {} waiting, lag avg {} ms / max {} ms, {} coalesced, {} dropped",
+                        mailbox.getListener().getListenerId(), mailbox.getQueueDepth(),
+                        mailbox.getAverageLagMillis(), mailbox.getMaxLagMillis(), mailbox.getCoalescedCount(),
+                        mailbox.getDroppedCount());
+            }
         }
     }
 
-    public void unregisterStatusListener(RachioStatusListener listener) {
-        statusListeners.remove(listener);
-        logger.debug("Unregistered status listener: {}", listener.getListenerId());
+    /**
+     * @return the event queues of the registered listeners, with their depth and delivery lag
+     */
+    public Collection<RachioListenerMailbox> getListenerMailboxes() {
+        return router.getMailboxes();
     }
 
-    public void registerZoneHandler(RachioZoneHandler handler) {
-        if (!zoneHandlers.contains(handler)) {
-            zoneHandlers.add(handler);
-            logger.debug("Registered zone handler: {}", handler.getThing().getUID());
-        }
+    /**
+     * Register a listener for every event of every device and zone
+     */
+    public void registerStatusListener(RachioStatusListener listener) {
+        router.subscribeAll(listener);
+        logger.debug("Registered status listener: {}", listener.getListenerId());
     }
 
-    public void unregisterZoneHandler(RachioZoneHandler handler) {
-        zoneHandlers.remove(handler);
-        logger.debug("Unregistered zone handler: {}", handler.getThing().getUID());
+    /**
+     * Register a listener for the events of one topic about the device or zone it owns
+     *
+     * @param listener the listener
+     * @param topic kind of event
+     * @param id device id for {@link Topic#DEVICE} and {@link Topic#WEBHOOK}, zone id for {@link Topic#ZONE}, or
+     *            null for the events of all devices or zones
+     */
+    public void registerStatusListener(RachioStatusListener listener, Topic topic, @Nullable String id) {
+        router.subscribe(listener, topic, id);
+        logger.debug("Registered status listener {} for {} {}", listener.getListenerId(), topic, id);
+    }
+
+    public void unregisterStatusListener(RachioStatusListener listener) {
+        router.unsubscribe(listener);
+        logger.debug("Unregistered status listener: {}", listener.getListenerId());
     }
 
     public boolean isListenerRegistered(RachioStatusListener listener) {
-        return statusListeners.contains(listener);
+        return router.isSubscribed(listener);
     }
 
     // Helper method to notify zone updates
-    public void notifyZoneUpdated(@Nullable String deviceId, RachioZone zone) {
+    public void notifyZoneUpdated(@Nullable String deviceId, RachioZoneSnapshot zone) {
         String actualDeviceId = deviceId != null ? deviceId : "unknown";
-        for (RachioStatusListener listener : statusListeners) {
-            listener.onZoneUpdated(actualDeviceId, zone);
-        }
+        router.dispatch(Topic.ZONE, zone.id, listener -> listener.onZoneUpdated(actualDeviceId, zone));
     }
 
     /**
@@ -559,11 +815,12 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
 
         // For compilation purposes, we'll implement a basic version
         // that updates local state and notifies listeners
-        RachioZone zone = getZoneData(zoneId);
+        RachioZoneSnapshot zone = getZoneData(zoneId);
         if (zone != null) {
-            zone.enabled = enabled;
-            String zoneDeviceId = zone.deviceId != null ? zone.deviceId : "unknown";
-            notifyZoneUpdated(zoneDeviceId, zone);
+            RachioZoneSnapshot changed = zone.withEnabled(enabled);
+            discoveredDevices.computeIfPresent(zone.deviceId, (id, device) -> device.withZone(changed));
+            zoneIndex.put(zoneId, changed);
+            notifyZoneUpdated(changed.deviceId, changed);
             logger.debug("Zone {} {} locally", zoneId, enabled ? "enabled" : "disabled");
         }
     }
@@ -583,6 +840,37 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
         }
     }
 
+    /**
+     * Start the one job that republishes the unchanged channel states of all children; none if disabled
+     */
+    private void startRepublishing() {
+        Duration interval = stateRepublishInterval;
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        long period = Math.min(interval.toMillis(), REPUBLISH_CHECK_INTERVAL.toMillis());
+        republishJob = scheduler.scheduleWithFixedDelay(this::republishChildStates, period, period,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void stopRepublishing() {
+        ScheduledFuture<?> job = republishJob;
+        if (job != null) {
+            job.cancel(false);
+            republishJob = null;
+        }
+    }
+
+    private void republishChildStates() {
+        Duration interval = stateRepublishInterval;
+        for (Thing child : getThing().getThings()) {
+            ThingHandler handler = child.getHandler();
+            if (handler instanceof RachioHandler) {
+                ((RachioHandler) handler).republishStates(interval);
+            }
+        }
+    }
+
     private void scheduleWebhookRegistration() {
         webhookRegistrationJob = scheduler.schedule(this::registerWebhook, 30, TimeUnit.SECONDS);
     }
@@ -640,25 +928,39 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
      * @param eventJson Webhook event JSON
      */
     public void processWebhook(String eventJson) {
-        for (RachioStatusListener listener : statusListeners) {
-            listener.onWebhookEventReceived(eventJson);
+        RachioEvent event = parseWebhookEvent(eventJson);
+        String deviceId = null;
+        if (event != null && event.deviceId != null && !event.deviceId.isEmpty()) {
+            deviceId = event.deviceId;
+            // Learn the controller of the zone, so commands for a zone not polled yet can be related to its device
+            RachioApiClient client = apiClient;
+            if (client != null && event.isZoneEvent()) {
+                client.rememberZone(event.zoneId, deviceId);
+            }
         }
 
-        for (RachioZoneHandler zoneHandler : zoneHandlers) {
-            zoneHandler.onWebhookEventReceived(eventJson);
-        }
+        router.dispatch(Topic.WEBHOOK, deviceId, listener -> listener.onWebhookEventReceived(eventJson));
 
         logger.debug("Received webhook event: {}",
                 eventJson.length() > 100 ? eventJson.substring(0, 100) + "..." : eventJson);
     }
 
+    private @Nullable RachioEvent parseWebhookEvent(String eventJson) {
+        try {
+            return RachioGson.get().fromJson(eventJson, RachioEvent.class);
+        } catch (JsonParseException e) {
+            logger.debug("Webhook event is not a Rachio event: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Get device data for device handler
      *
      * @param deviceId Device ID
      * @return Device data or null
      */
-    public @Nullable RachioDevice getDeviceData(String deviceId) {
+    public @Nullable RachioDeviceSnapshot getDeviceData(String deviceId) {
         return discoveredDevices.get(deviceId);
     }
 
@@ -668,53 +970,236 @@ public class RachioBridgeHandler extends BaseBridgeHandler implements RachioHttp
      * @param zoneId Zone ID
      * @return Zone data or null
      */
-    public @Nullable RachioZone getZoneData(String zoneId) {
-        // Search through all device zones to find the matching zone
-        for (Map.Entry<String, List<RachioZone>> entry : deviceZones.entrySet()) {
-            List<RachioZone> zones = entry.getValue();
-            if (zones != null) {
-                for (RachioZone zone : zones) {
-                    if (zone.id != null && zone.id.equals(zoneId)) {
-                        return zone;
-                    }
-                }
-            }
-        }
-        return null;
+    public @Nullable RachioZoneSnapshot getZoneData(String zoneId) {
+        return zoneIndex.get(zoneId);
     }
 
     /**
-     * Start watering a specific zone
+     * Start watering a specific zone.
+     * The command goes through the outbox, so it is sent once the Rachio cloud is reachable again if it is not now.
+     * Starts for zones of the same controller issued within the coalesce window of each other are sent as one
+     * start_multiple request, running the zones in the order they were started. The window is counted from when a
+     * start was issued, so it runs alongside the debounce interval instead of after it.
+     * A newer start or stop for the same zone within the debounce interval replaces this one.
      *
      * @param zoneId Zone ID to start
      * @param duration Duration in seconds
+     * @return Future completing when the command was sent, exceptionally when it was rejected or dropped, or
+     *         cancelled when a newer command for the zone replaced it
      */
-    public void startZone(String zoneId, int duration) {
-        RachioApiClient client = apiClient;
-        if (client != null) {
-            try {
-                client.startZone(zoneId, duration);
-                logger.info("Started zone {} for {} seconds", zoneId, duration);
-            } catch (Exception e) {
-                logger.warn("Failed to start zone {}: {}", zoneId, e.getMessage());
-            }
-        }
+    public CompletableFuture<Void> startZone(String zoneId, int duration) {
+        long issuedAt = System.currentTimeMillis();
+        return commandReducer.submit(zoneId,
+                () -> submitCommand(RachioCommandOutbox.CommandType.START_ZONE, zoneId, duration, issuedAt));
     }
 
     /**
-     * Stop watering a specific zone
+     * Stop watering a specific zone.
+     * The command goes through the outbox, so it is sent once the Rachio cloud is reachable again if it is not now.
+     * A newer start or stop for the same zone within the debounce interval replaces this one.
      *
      * @param zoneId Zone ID to stop
+     * @return Future completing when the command was sent, exceptionally when it was rejected or dropped, or
+     *         cancelled when a newer command for the zone replaced it
      */
-    public void stopZone(String zoneId) {
+    public CompletableFuture<Void> stopZone(String zoneId) {
+        long issuedAt = System.currentTimeMillis();
+        return commandReducer.submit(zoneId,
+                () -> submitCommand(RachioCommandOutbox.CommandType.STOP_ZONE, zoneId, 0, issuedAt));
+    }
+
+    /**
+     * Pause or resume a controller.
+     * The command goes through the outbox like zone commands; a newer pause or resume for the same device within
+     * the debounce interval replaces this one.
+     *
+     * @param deviceId Device ID
+     * @param paused true to pause, false to resume
+     * @return Future completing when the command was sent, exceptionally when it was rejected or dropped, or
+     *         cancelled when a newer command for the device replaced it
+     */
+    public CompletableFuture<Void> setDevicePaused(String deviceId, boolean paused) {
+        RachioCommandOutbox.CommandType type = paused ? RachioCommandOutbox.CommandType.PAUSE_DEVICE
+                : RachioCommandOutbox.CommandType.RESUME_DEVICE;
+        long issuedAt = System.currentTimeMillis();
+        return commandReducer.submit(deviceId, () -> submitCommand(type, deviceId, 0, issuedAt));
+    }
+
+    private CompletableFuture<Void> submitCommand(RachioCommandOutbox.CommandType type, String targetId, int duration,
+            long issuedAt) {
+        RachioCommandOutbox localOutbox = outbox;
+        if (localOutbox == null) {
+            logger.warn("Bridge not initialized, {} for {} dropped", type, targetId);
+            return CompletableFuture.failedFuture(new RachioApiException("Bridge not initialized"));
+        }
+        // Commands for the same target still waiting in the outbox (e.g. during an outage) are superseded
+        for (RachioCommandOutbox.Command superseded : localOutbox.removeTarget(targetId)) {
+            logger.debug("{} superseded by {} {}", superseded, type, targetId);
+            CompletableFuture<Void> completion = commandCompletions.remove(superseded.key);
+            if (completion != null) {
+                completion.cancel(false);
+            }
+        }
+        RachioCommandOutbox.Command command = localOutbox.add(type, targetId, duration, issuedAt);
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        commandCompletions.put(command.key, completion);
+        logger.debug("Queued {} as {}", command, command.key);
+        replayOutbox();
+        return completion;
+    }
+
+    /**
+     * Send the queued commands in the order they were issued. Stale commands are dropped, commands rejected by
+     * the API are dropped, and a transient failure stops the replay until the next successful poll or until the
+     * circuit closes.
+     */
+    private void replayOutbox() {
+        if (replayInProgress.compareAndSet(false, true)) {
+            replayNext();
+        }
+    }
+
+    private void replayNext() {
+        RachioCommandOutbox localOutbox = outbox;
         RachioApiClient client = apiClient;
-        if (client != null) {
-            try {
-                client.stopZone(zoneId);
-                logger.info("Stopped zone {}", zoneId);
-            } catch (Exception e) {
-                logger.warn("Failed to stop zone {}: {}", zoneId, e.getMessage());
+        if (localOutbox == null || client == null) {
+            replayInProgress.set(false);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        RachioCommandOutbox.Command command;
+        while ((command = localOutbox.peek()) != null && now >= command.getExpiresAt()) {
+            logger.info("Dropping stale command {} issued at {}", command, Instant.ofEpochMilli(command.createdAt));
+            localOutbox.acknowledge(command.key);
+            completeCommand(command, new RachioApiException("Command expired before it could be sent"));
+        }
+        if (command == null) {
+            replayInProgress.set(false);
+            // A command queued after peek() but before the flag was cleared would otherwise wait for the next poll
+            if (localOutbox.size() > 0 && replayInProgress.compareAndSet(false, true)) {
+                replayNext();
+            }
+            return;
+        }
+
+        CompletableFuture<Void> future;
+        List<RachioCommandOutbox.Command> batch;
+        if (command.type == RachioCommandOutbox.CommandType.START_ZONE) {
+            long wait = getCoalesceWait(client, command, now);
+            if (wait > 0) {
+                // Give starts issued back to back the chance to join this one; the replay stays claimed meanwhile
+                scheduler.schedule(this::replayNext, wait, TimeUnit.MILLISECONDS);
+                return;
+            }
+            batch = collectStartBatch(client, localOutbox, now);
+            if (batch.size() > 1) {
+                List<RachioZoneRun> runs = new ArrayList<>(batch.size());
+                for (RachioCommandOutbox.Command start : batch) {
+                    runs.add(new RachioZoneRun(start.targetId, start.getRemainingDuration(now), runs.size() + 1));
+                }
+                future = client.startMultipleZonesAsync(runs);
+            } else {
+                // A start sent late only runs for what is left of its duration
+                future = client.startZoneAsync(command.targetId, command.getRemainingDuration(now));
+            }
+        } else if (command.type == RachioCommandOutbox.CommandType.STOP_ZONE) {
+            batch = List.of(command);
+            future = client.stopZoneAsync(command.targetId);
+        } else {
+            batch = List.of(command);
+            future = client.setDevicePausedAsync(command.targetId,
+                    command.type == RachioCommandOutbox.CommandType.PAUSE_DEVICE);
+        }
+
+        String description = batch.size() > 1 ? batch.size() + " zone starts as one request" : command.toString();
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                logger.info("Sent {}", description);
+                for (RachioCommandOutbox.Command sent : batch) {
+                    localOutbox.acknowledge(sent.key);
+                    completeCommand(sent, null);
+                }
+                replayNext();
+                return;
             }
+            RachioApiException e = RachioApiException.from(error);
+            if (e.isClientError() && !e.isRateLimitError()) {
+                logger.warn("Rachio rejected {}, dropping it: {}", description, e.getMessage());
+                for (RachioCommandOutbox.Command rejected : batch) {
+                    localOutbox.acknowledge(rejected.key);
+                    completeCommand(rejected, e);
+                }
+                replayNext();
+            } else {
+                logger.warn("Could not send {}, keeping {} command(s) queued: {}", description, localOutbox.size(),
+                        e.getMessage());
+                replayInProgress.set(false);
+            }
+        });
+    }
+
+    /**
+     * Time a start has to wait for starts that can join it: until its coalesce window has passed, and until the
+     * starts for zones of the same controller issued within that window have left the debounce
+     */
+    private long getCoalesceWait(RachioApiClient client, RachioCommandOutbox.Command start, long now) {
+        long window = coalesceWindowMillis;
+        if (window == 0) {
+            return 0;
+        }
+        long until = start.createdAt + window;
+        String deviceId = client.getZoneDeviceId(start.targetId);
+        if (deviceId != null) {
+            long held = commandReducer.getLatestForward(start.createdAt, until,
+                    zoneId -> deviceId.equals(client.getZoneDeviceId(zoneId)));
+            if (held >= 0) {
+                // Still held: its forward task is due, look again right after it
+                until = Math.max(until, Math.max(held, now) + 1);
+            }
+        }
+        return until - now;
+    }
+
+    /**
+     * Collect the starts at the head of the outbox that can go out as one start_multiple request: consecutive,
+     * still current, for distinct zones of the same controller and issued within the coalescing window of the
+     * first one
+     */
+    private List<RachioCommandOutbox.Command> collectStartBatch(RachioApiClient client,
+            RachioCommandOutbox localOutbox, long now) {
+        List<RachioCommandOutbox.Command> head = localOutbox.peek(MAX_ZONES_PER_START);
+        RachioCommandOutbox.Command first = head.get(0);
+        String deviceId = client.getZoneDeviceId(first.targetId);
+        List<RachioCommandOutbox.Command> batch = new ArrayList<>(head.size());
+        batch.add(first);
+        if (deviceId == null) {
+            // Controller not known yet, so we cannot tell which starts belong together
+            return batch;
+        }
+        Set<String> zones = new HashSet<>();
+        zones.add(first.targetId);
+        for (RachioCommandOutbox.Command next : head.subList(1, head.size())) {
+            if (next.type != RachioCommandOutbox.CommandType.START_ZONE
+                    || next.createdAt - first.createdAt > coalesceWindowMillis || now >= next.getExpiresAt()
+                    || !deviceId.equals(client.getZoneDeviceId(next.targetId)) || !zones.add(next.targetId)) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void completeCommand(RachioCommandOutbox.Command command, @Nullable RachioApiException error) {
+        CompletableFuture<Void> completion = commandCompletions.remove(command.key);
+        if (completion == null) {
+            // Queued before a restart
+            return;
+        }
+        if (error == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(error);
         }
     }
 }
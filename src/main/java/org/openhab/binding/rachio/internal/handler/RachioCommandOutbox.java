@@ -0,0 +1,423 @@
+package org.openhab.binding.rachio.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Persistent outbox for zone and device commands of one bridge.
+ * Commands are appended to a JSON lines file under the openHAB userdata folder before they are sent and
+ * acknowledged once the API accepted them (or they were dropped), so commands issued while the Rachio cloud is
+ * unreachable survive the outage and a restart. Writes are buffered and synced to disk in batches: a burst of
+ * commands costs one fsync. Delivery is at least once; a command may be sent again if openHAB stops between the
+ * API call and the sync of its acknowledgement.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioCommandOutbox {
+
+    /** Most commands kept; when full, the oldest pending command is dropped */
+    private static final int MAX_PENDING = 10000;
+    /** Unsynced records that trigger an immediate sync */
+    private static final int SYNC_BATCH = 64;
+    /** Longest time an appended record stays unsynced */
+    private static final long SYNC_DELAY_MILLIS = 200;
+    /** Records in the file before it is rewritten with the pending commands only */
+    private static final int COMPACT_THRESHOLD = 1000;
+    /** Stops and pause changes only matter while a run may still be going; Rachio runs last at most 3 hours */
+    private static final long CONTROL_EXPIRY_MILLIS = TimeUnit.HOURS.toMillis(3);
+
+    private static final String OP_ADD = "add";
+    private static final String OP_ACK = "ack";
+
+    /**
+     * Kind of a queued command
+     */
+    public enum CommandType {
+        START_ZONE,
+        STOP_ZONE,
+        PAUSE_DEVICE,
+        RESUME_DEVICE
+    }
+
+    /**
+     * A queued command
+     */
+    public static class Command {
+        public final String key;
+        public final CommandType type;
+        public final String targetId;
+        public final int duration;
+        public final long createdAt;
+
+        Command(String key, CommandType type, String targetId, int duration, long createdAt) {
+            this.key = key;
+            this.type = type;
+            this.targetId = targetId;
+            this.duration = duration;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * @return point in time (epoch milliseconds) after which sending the command makes no sense any more
+         */
+        public long getExpiresAt() {
+            return type == CommandType.START_ZONE ? createdAt + duration * 1000L : createdAt + CONTROL_EXPIRY_MILLIS;
+        }
+
+        /**
+         * Duration still left of a start when it is sent late, so the zone stops when it was meant to
+         *
+         * @param now current time in epoch milliseconds
+         * @return remaining duration in seconds
+         */
+        public int getRemainingDuration(long now) {
+            return (int) Math.max(0, (getExpiresAt() - now + 999) / 1000);
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + targetId + (type == CommandType.START_ZONE ? " for " + duration + " s" : "");
+        }
+    }
+
+    /**
+     * One line of the outbox file
+     */
+    private static class Record {
+        @Nullable
+        String op;
+        @Nullable
+        String key;
+        @Nullable
+        CommandType type;
+        @Nullable
+        String targetId;
+        int duration;
+        long createdAt;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RachioCommandOutbox.class);
+    private final Gson gson = new Gson();
+
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, Command> pending = new LinkedHashMap<>();
+    private @Nullable FileChannel channel;
+    private @Nullable Writer writer;
+    private @Nullable ScheduledFuture<?> syncJob;
+    private int unsynced = 0;
+    private int records = 0;
+
+    /**
+     * @param name name of the outbox file, unique per bridge
+     * @param scheduler executor for the batched syncs
+     */
+    public RachioCommandOutbox(String name, ScheduledExecutorService scheduler) {
+        this.file = Paths.get(OpenHAB.getUserDataFolder(), "rachio", name.replaceAll("[^A-Za-z0-9_.-]", "_"));
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Load the commands left from a previous run and open the file for appending
+     *
+     * @throws IOException if the outbox file cannot be created
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(file.getParent());
+        if (Files.exists(file)) {
+            load();
+        }
+        // Start from a compact file holding only what is still pending
+        rewrite();
+        if (!pending.isEmpty()) {
+            logger.info("Rachio command outbox holds {} command(s) from before the restart", pending.size());
+        }
+    }
+
+    /**
+     * Sync outstanding writes and close the file; pending commands stay on disk
+     */
+    public synchronized void close() {
+        ScheduledFuture<?> job = syncJob;
+        if (job != null) {
+            job.cancel(false);
+            syncJob = null;
+        }
+        sync();
+        closeFile();
+    }
+
+    /**
+     * Queue a command
+     *
+     * @param type kind of command
+     * @param targetId zone or device the command is for
+     * @param duration run time in seconds for a start, 0 otherwise
+     * @param issuedAt when the user issued the command, in epoch milliseconds
+     * @return the queued command
+     */
+    public synchronized Command add(CommandType type, String targetId, int duration, long issuedAt) {
+        Command command = new Command(UUID.randomUUID().toString(), type, targetId, duration, issuedAt);
+        if (pending.size() >= MAX_PENDING) {
+            Iterator<Command> oldest = pending.values().iterator();
+            Command dropped = oldest.next();
+            oldest.remove();
+            logger.warn("Rachio command outbox full, dropping oldest command {}", dropped);
+            appendAck(dropped.key);
+        }
+        pending.put(command.key, command);
+
+        append(toRecord(command));
+        return command;
+    }
+
+    /**
+     * Remove a command that was sent or dropped
+     *
+     * @param key local key of the command; it is not sent to the API
+     */
+    public synchronized void acknowledge(String key) {
+        if (pending.remove(key) != null) {
+            appendAck(key);
+        }
+    }
+
+    /**
+     * @return the oldest pending command, or null if the outbox is empty
+     */
+    public synchronized @Nullable Command peek() {
+        Iterator<Command> iterator = pending.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Remove the pending commands for a target because a newer command replaces them. A command the replay is
+     * sending at this moment may still go out.
+     *
+     * @param targetId zone or device the commands are for
+     * @return the removed commands
+     */
+    public synchronized List<Command> removeTarget(String targetId) {
+        List<Command> removed = new ArrayList<>();
+        Iterator<Command> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Command command = iterator.next();
+            if (command.targetId.equals(targetId)) {
+                iterator.remove();
+                removed.add(command);
+            }
+        }
+        for (Command command : removed) {
+            appendAck(command.key);
+        }
+        return removed;
+    }
+
+    /**
+     * @param max most commands returned
+     * @return the oldest pending commands in the order they were queued
+     */
+    public synchronized List<Command> peek(int max) {
+        List<Command> head = new ArrayList<>(Math.min(max, pending.size()));
+        Iterator<Command> iterator = pending.values().iterator();
+        while (head.size() < max && iterator.hasNext()) {
+            head.add(iterator.next());
+        }
+        return head;
+    }
+
+    /**
+     * @return number of pending commands
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    private static Record toRecord(Command command) {
+        Record record = new Record();
+        record.op = OP_ADD;
+        record.key = command.key;
+        record.type = command.type;
+        record.targetId = command.targetId;
+        record.duration = command.duration;
+        record.createdAt = command.createdAt;
+        return record;
+    }
+
+    private void appendAck(String key) {
+        Record record = new Record();
+        record.op = OP_ACK;
+        record.key = key;
+        append(record);
+        if (records > COMPACT_THRESHOLD && records > 2 * pending.size()) {
+            try {
+                rewrite();
+            } catch (IOException e) {
+                logger.warn("Failed to compact Rachio command outbox {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void append(Record record) {
+        Writer localWriter = writer;
+        if (localWriter == null) {
+            logger.debug("Rachio command outbox not open, {} not persisted", record.key);
+            return;
+        }
+        try {
+            localWriter.write(gson.toJson(record));
+            localWriter.write('\n');
+            records++;
+            unsynced++;
+        } catch (IOException e) {
+            logger.warn("Failed to write Rachio command outbox {}: {}", file, e.getMessage());
+            return;
+        }
+
+        if (unsynced >= SYNC_BATCH) {
+            sync();
+        } else if (syncJob == null) {
+            syncJob = scheduler.schedule(this::scheduledSync, SYNC_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void scheduledSync() {
+        syncJob = null;
+        sync();
+    }
+
+    private void sync() {
+        Writer localWriter = writer;
+        FileChannel localChannel = channel;
+        if (unsynced == 0 || localWriter == null || localChannel == null) {
+            return;
+        }
+        try {
+            localWriter.flush();
+            localChannel.force(false);
+            unsynced = 0;
+        } catch (IOException e) {
+            logger.warn("Failed to sync Rachio command outbox {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() throws IOException {
+        int corrupt = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Record record;
+                try {
+                    record = gson.fromJson(line, Record.class);
+                } catch (JsonParseException e) {
+                    // Typically the last line, torn by a crash in the middle of a write
+                    corrupt++;
+                    continue;
+                }
+                String key = record != null ? record.key : null;
+                if (record == null || key == null) {
+                    corrupt++;
+                } else if (OP_ACK.equals(record.op)) {
+                    pending.remove(key);
+                } else {
+                    CommandType type = record.type;
+                    String targetId = record.targetId;
+                    if (OP_ADD.equals(record.op) && type != null && targetId != null) {
+                        pending.put(key,
+                                new Command(key, type, targetId, record.duration, record.createdAt));
+                    } else {
+                        corrupt++;
+                    }
+                }
+            }
+        }
+        if (corrupt > 0) {
+            logger.debug("Skipped {} unreadable line(s) in Rachio command outbox {}", corrupt, file);
+        }
+    }
+
+    /**
+     * Replace the file with one holding only the pending commands
+     */
+    private void rewrite() throws IOException {
+        closeFile();
+        List<String> lines = new ArrayList<>(pending.size());
+        for (Command command : pending.values()) {
+            lines.add(gson.toJson(toRecord(command)));
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                    Writer tempWriter = new BufferedWriter(Channels.newWriter(tempChannel, StandardCharsets.UTF_8))) {
+                for (String line : lines) {
+                    tempWriter.write(line);
+                    tempWriter.write('\n');
+                }
+                tempWriter.flush();
+                tempChannel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            records = lines.size();
+        } finally {
+            // Keep appending to whichever file is in place, even if the rewrite failed
+            openForAppend();
+        }
+    }
+
+    private void openForAppend() throws IOException {
+        FileChannel newChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        channel = newChannel;
+        writer = new BufferedWriter(Channels.newWriter(newChannel, StandardCharsets.UTF_8));
+        unsynced = 0;
+    }
+
+    private void closeFile() {
+        Writer localWriter = writer;
+        writer = null;
+        channel = null;
+        if (localWriter != null) {
+            try {
+                // Closing the writer closes the channel as well
+                localWriter.close();
+            } catch (IOException e) {
+                logger.debug("Error closing Rachio command outbox {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
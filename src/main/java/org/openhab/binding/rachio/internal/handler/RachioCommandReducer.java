@@ -0,0 +1,188 @@
+package org.openhab.binding.rachio.internal.handler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-target command reducer.
+ * A command is held for the debounce interval; a newer command for the same target (a zone's run state, a
+ * device's pause state) replaces it and restarts the interval, so a burst of ON/OFF/ON toggles ends up as one
+ * call carrying the last intent. The hold is capped at {@value #MAX_HOLD_FACTOR} intervals so continuous toggling
+ * cannot delay a command indefinitely. Futures of replaced commands are cancelled.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioCommandReducer {
+
+    private static final int MAX_HOLD_FACTOR = 4;
+
+    /**
+     * The latest command held for a target
+     */
+    private static class Slot {
+        final long firstAt;
+        long lastAt;
+        long flushAt;
+        Supplier<CompletableFuture<Void>> action;
+        CompletableFuture<Void> result;
+        @Nullable
+        ScheduledFuture<?> flush;
+
+        Slot(long firstAt, Supplier<CompletableFuture<Void>> action, CompletableFuture<Void> result) {
+            this.firstAt = firstAt;
+            this.lastAt = firstAt;
+            this.action = action;
+            this.result = result;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RachioCommandReducer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Slot> slots = new HashMap<>();
+    private volatile long debounceMillis;
+
+    /**
+     * @param scheduler executor running the held commands
+     * @param debounceMillis debounce interval in milliseconds, 0 to forward commands immediately
+     */
+    public RachioCommandReducer(ScheduledExecutorService scheduler, long debounceMillis) {
+        this.scheduler = scheduler;
+        this.debounceMillis = Math.max(0, debounceMillis);
+    }
+
+    /**
+     * Submit a command for a target, replacing a command for the same target that is still held
+     *
+     * @param target identifies what the command changes, e.g. the run state of one zone
+     * @param action sends the command
+     * @return Future completing with the outcome of the action, or cancelled if a newer command replaced it
+     */
+    public CompletableFuture<Void> submit(String target, Supplier<CompletableFuture<Void>> action) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        long debounce = debounceMillis;
+        if (debounce == 0) {
+            forward(action, result);
+            return result;
+        }
+
+        CompletableFuture<Void> superseded = null;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            Slot slot = slots.get(target);
+            if (slot == null) {
+                slot = new Slot(now, action, result);
+                slots.put(target, slot);
+            } else {
+                superseded = slot.result;
+                slot.lastAt = now;
+                slot.action = action;
+                slot.result = result;
+                ScheduledFuture<?> flush = slot.flush;
+                if (flush != null) {
+                    flush.cancel(false);
+                }
+            }
+            long delay = Math.max(0, Math.min(debounce, slot.firstAt + MAX_HOLD_FACTOR * debounce - now));
+            Slot scheduled = slot;
+            slot.flushAt = now + delay;
+            slot.flush = scheduler.schedule(() -> flush(target, scheduled), delay, TimeUnit.MILLISECONDS);
+        }
+        if (superseded != null) {
+            logger.debug("Command for {} superseded by a newer one", target);
+            superseded.cancel(false);
+        }
+        return result;
+    }
+
+    /**
+     * Find when the held commands issued in a time range will have been forwarded, so a caller can wait for
+     * commands that belong together with one it already has
+     *
+     * @param issuedFrom start of the range, in epoch milliseconds
+     * @param issuedTo end of the range, in epoch milliseconds
+     * @param targets selects the targets of interest
+     * @return epoch milliseconds of the last scheduled forward, or -1 if no such command is held
+     */
+    public synchronized long getLatestForward(long issuedFrom, long issuedTo, Predicate<String> targets) {
+        long latest = -1;
+        for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+            Slot slot = entry.getValue();
+            if (slot.lastAt >= issuedFrom && slot.lastAt <= issuedTo && targets.test(entry.getKey())) {
+                latest = Math.max(latest, slot.flushAt);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Change the debounce interval; commands already held keep their schedule
+     *
+     * @param debounceMillis debounce interval in milliseconds, 0 to forward commands immediately
+     */
+    public void setDebounceMillis(long debounceMillis) {
+        this.debounceMillis = Math.max(0, debounceMillis);
+    }
+
+    /**
+     * Drop all held commands and cancel their futures
+     */
+    public void dispose() {
+        List<Slot> dropped;
+        synchronized (this) {
+            dropped = new ArrayList<>(slots.values());
+            slots.clear();
+        }
+        for (Slot slot : dropped) {
+            ScheduledFuture<?> flush = slot.flush;
+            if (flush != null) {
+                flush.cancel(false);
+            }
+            slot.result.cancel(false);
+        }
+    }
+
+    private void flush(String target, Slot slot) {
+        Supplier<CompletableFuture<Void>> action;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            // A newer command may have rescheduled the slot after this flush was already running
+            if (!slots.remove(target, slot)) {
+                return;
+            }
+            action = slot.action;
+            result = slot.result;
+        }
+        forward(action, result);
+    }
+
+    private void forward(Supplier<CompletableFuture<Void>> action, CompletableFuture<Void> result) {
+        CompletableFuture<Void> sent;
+        try {
+            sent = action.get();
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        sent.whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(null);
+            }
+        });
+    }
+}
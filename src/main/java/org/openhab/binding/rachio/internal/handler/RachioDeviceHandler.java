@@ -3,7 +3,11 @@ package org.openhab.binding.rachio.internal.handler;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -11,19 +15,25 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.RachioBindingConstants;
 import org.openhab.binding.rachio.internal.api.RachioApiClient;
-import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
+import org.openhab.binding.rachio.internal.api.RachioApiException;
+import org.openhab.binding.rachio.internal.api.RachioRequestPriority;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.DeviceChange;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
 import org.openhab.binding.rachio.internal.api.dto.RachioForecast;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.Column;
 import org.openhab.binding.rachio.internal.api.dto.RachioSavings;
 import org.openhab.binding.rachio.internal.api.dto.RachioUsage;
-import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 import org.openhab.binding.rachio.internal.config.RachioDeviceConfiguration;
+import org.openhab.binding.rachio.internal.handler.RachioStatusListener.Topic;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
-import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.ChannelUID;
@@ -44,7 +54,8 @@ public class RachioDeviceHandler extends RachioHandler {
     private final Logger logger = LoggerFactory.getLogger(RachioDeviceHandler.class);
 
     private @Nullable RachioDeviceConfiguration config;
-    private @Nullable RachioDevice lastDeviceData;
+    private @Nullable RachioDeviceSnapshot lastDeviceData;
+    private volatile boolean staticPropertiesSet;
     private @Nullable RachioUsage lastUsageData;
     private @Nullable RachioForecast lastForecastData;
 
@@ -73,14 +84,14 @@ public class RachioDeviceHandler extends RachioHandler {
 
         RachioBridgeHandler bridgeHandler = getBridgeHandler();
         if (bridgeHandler != null) {
-            bridgeHandler.registerStatusListener(this);
+            bridgeHandler.registerStatusListener(this, Topic.DEVICE, getDeviceIdFromConfig());
             logger.debug("Registered with bridge handler");
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE, "Bridge not available");
             return;
         }
 
-        scheduler.schedule(this::refreshDeviceData, 2, TimeUnit.SECONDS);
+        scheduler.schedule(() -> refreshDeviceData(), 2, TimeUnit.SECONDS);
         logger.debug("Rachio device handler initialized for thing {}", getThing().getUID());
     }
 
@@ -392,7 +403,7 @@ public class RachioDeviceHandler extends RachioHandler {
     protected void performRefresh(ChannelUID channelUID) {
         // Implementation of abstract method from RachioHandler
         logger.debug("Performing refresh for channel {} in device handler", channelUID);
-        refreshDeviceData();
+        refreshDeviceData(Instant.now().plus(REFRESH_DEADLINE));
     }
 
     // ===================================================================
@@ -424,7 +435,7 @@ public class RachioDeviceHandler extends RachioHandler {
     }
 
     @Override
-    public void onDeviceStatusChanged(@Nullable RachioDevice device) {
+    public void onDeviceStatusChanged(@Nullable RachioDeviceSnapshot device) {
         if (device != null) {
             logger.debug("Listener {} received full device update for: {}", getListenerId(), device.id);
             updateDeviceData(device);
@@ -437,7 +448,7 @@ public class RachioDeviceHandler extends RachioHandler {
         // Status updates via this method may be triggered by webhooks.
         // Trigger a refresh to get full device data.
         if (deviceId != null && deviceId.equals(getDeviceIdFromConfig())) {
-            scheduler.submit(this::refreshDeviceData);
+            scheduler.submit(() -> refreshDeviceData());
         }
     }
 
@@ -448,13 +459,24 @@ public class RachioDeviceHandler extends RachioHandler {
     }
 
     @Override
-    public void onDeviceUpdated(@Nullable RachioDevice device) {
-        // Alias for onDeviceStatusChanged(RachioDevice) for clarity in bridge logic
+    public void onDeviceUpdated(@Nullable RachioDeviceSnapshot device) {
+        // Alias for onDeviceStatusChanged(RachioDeviceSnapshot) for clarity in bridge logic
         onDeviceStatusChanged(device);
     }
 
     @Override
-    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZone zone) {
+    public void onDeviceChanged(RachioDeviceSnapshot device, RachioDeviceDelta delta) {
+        if (!device.id.equals(getDeviceIdFromConfig())) {
+            return;
+        }
+        // Diff against what this handler applied last; a refresh of its own may have run since the previous poll
+        // Called without changes while a rain delay is active, which still updates its countdown
+        Set<DeviceChange> changes = RachioDeviceDelta.between(lastDeviceData, device).getDeviceChanges();
+        updateDeviceData(device, changes);
+    }
+
+    @Override
+    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZoneSnapshot zone) {
         logger.debug("Listener {} received update for zone {}: {}", getListenerId(), zoneId,
                 zone != null ? zone.name : "null");
         // Zone-specific updates are primarily handled by RachioZoneHandler
@@ -500,29 +522,35 @@ public class RachioDeviceHandler extends RachioHandler {
         RachioBridgeHandler bridgeHandler = getBridgeHandler();
         RachioDeviceConfiguration localConfig = config;
 
-        if (bridgeHandler == null || localConfig == null || localConfig.deviceId == null) {
+        String deviceId = localConfig != null ? localConfig.deviceId : null;
+        if (bridgeHandler == null || deviceId == null) {
             logger.warn("Cannot handle pause command - missing bridge or config");
             return;
         }
 
-        scheduler.submit(() -> {
-            try {
-                boolean shouldPause = (command == OnOffType.ON);
-                RachioApiClient apiClient = bridgeHandler.getApiClient();
-                if (apiClient != null) {
-                    // Note: setDevicePaused method may need to be added to RachioApiClient
-                    // For now, we'll log and implement a placeholder
-                    logger.info("Device {} pause {} requested", localConfig.deviceId, shouldPause ? "ON" : "OFF");
-                    // In full implementation: apiClient.setDevicePaused(localConfig.deviceId, shouldPause);
-                }
+        boolean shouldPause = (command == OnOffType.ON);
+        // Toggles within the debounce interval collapse into the last one; the channel follows what was sent
+        bridgeHandler.setDevicePaused(deviceId, shouldPause).whenComplete((result, error) -> {
+            if (error == null) {
+                logger.info("Device {} {}", deviceId, shouldPause ? "paused" : "resumed");
                 updateState(RachioBindingConstants.CHANNEL_PAUSED, command);
-            } catch (Exception e) {
-                logger.error("Failed to {} device: {}", command == OnOffType.ON ? "pause" : "unpause", e.getMessage());
+            } else if (!(error instanceof CancellationException)) {
+                logger.error("Failed to {} device: {}", shouldPause ? "pause" : "unpause",
+                        RachioApiException.from(error).getMessage());
             }
         });
     }
 
     public void refreshDeviceData() {
+        refreshDeviceData(null);
+    }
+
+    /**
+     * Refresh the device state
+     *
+     * @param deadline point in time after which the device request is given up, or null for the bridge timeout
+     */
+    public void refreshDeviceData(@Nullable Instant deadline) {
         logger.debug("Refreshing device data for thing {}", getThing().getUID());
 
         RachioBridgeHandler bridgeHandler = getBridgeHandler();
@@ -543,38 +571,38 @@ public class RachioDeviceHandler extends RachioHandler {
             return;
         }
 
-        try {
-            RachioApiClient apiClient = bridgeHandler.getApiClient();
-            if (apiClient == null) {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "API client not available");
+        RachioApiClient apiClient = bridgeHandler.getApiClient();
+        if (apiClient == null) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "API client not available");
+            return;
+        }
+
+        // All three requests complete on the HTTP client's executor, not on the shared scheduler
+        apiClient.getDeviceAsync(deviceId, RachioRequestPriority.STATUS, deadline).whenComplete((deviceData, error) -> {
+            if (error != null) {
+                RachioApiException e = RachioApiException.from(error);
+                logger.error("Error refreshing device {}: {}", deviceId, e.getMessage(), e);
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
                 return;
             }
 
-            RachioDevice deviceData = apiClient.getDevice(deviceId);
             if (deviceData != null) {
-                lastDeviceData = deviceData;
-                updateDeviceData(deviceData);
-
-                scheduler.submit(() -> {
-                    try {
-                        RachioSavings savingsData = apiClient.getSavings(deviceId); // Changed from getDeviceSavings()
-                        if (savingsData != null) {
-                            updateSavingsData(savingsData);
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Failed to fetch savings data: {}", e.getMessage());
+                updateDeviceData(RachioDeviceSnapshot.of(deviceData));
+
+                apiClient.getSavingsAsync(deviceId).whenComplete((savingsData, savingsError) -> {
+                    if (savingsError != null) {
+                        logger.debug("Failed to fetch savings data: {}", savingsError.getMessage());
+                    } else if (savingsData != null) {
+                        updateSavingsData(savingsData);
                     }
                 });
 
-                scheduler.submit(() -> {
-                    try {
-                        RachioForecast forecastData = apiClient.getForecast(deviceId);
-                        if (forecastData != null) {
-                            lastForecastData = forecastData;
-                            updateForecastData(forecastData);
-                        }
-                    } catch (Exception e) {
-                        logger.debug("Failed to fetch forecast data: {}", e.getMessage());
+                apiClient.getForecastAsync(deviceId).whenComplete((forecastData, forecastError) -> {
+                    if (forecastError != null) {
+                        logger.debug("Failed to fetch forecast data: {}", forecastError.getMessage());
+                    } else if (forecastData != null) {
+                        lastForecastData = forecastData;
+                        updateForecastData(forecastData);
                     }
                 });
 
@@ -582,10 +610,7 @@ public class RachioDeviceHandler extends RachioHandler {
             } else {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "No device data received");
             }
-        } catch (Exception e) {
-            logger.error("Error refreshing device {}: {}", deviceId, e.getMessage(), e);
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-        }
+        });
     }
 
     private @Nullable RachioBridgeHandler getBridgeHandler() {
@@ -593,59 +618,87 @@ public class RachioDeviceHandler extends RachioHandler {
         return bridge != null ? (RachioBridgeHandler) bridge.getHandler() : null;
     }
 
-    public void updateDeviceData(@Nullable RachioDevice device) {
+    public void updateDeviceData(@Nullable RachioDeviceSnapshot device) {
         if (device == null)
             return;
 
-        lastDeviceData = device;
-        logger.debug("Updating device data for {}: {}", device.id, device.name);
+        updateDeviceData(device, EnumSet.allOf(DeviceChange.class));
+    }
 
-        updateProperty(RachioBindingConstants.PROPERTY_ID, device.id);
-        updateProperty(RachioBindingConstants.PROPERTY_STATUS, device.getStatusNonNull());
-        updateProperty(RachioBindingConstants.PROPERTY_PAUSED, String.valueOf(device.paused));
-        updateProperty(RachioBindingConstants.PROPERTY_ENABLED, String.valueOf(device.isEnabled()));
+    /**
+     * Update the properties and channels affected by the given changes
+     *
+     * @param device current device data
+     * @param changes what changed since the data last applied
+     */
+    private void updateDeviceData(RachioDeviceSnapshot device, Set<DeviceChange> changes) {
+        lastDeviceData = device;
+        logger.debug("Updating device data for {}: {} {}", device.id, device.name, changes);
 
-        String deviceModel = device.getModelNonNull();
-        if (!deviceModel.isEmpty()) {
-            updateProperty(RachioBindingConstants.PROPERTY_MODEL, deviceModel);
+        // Collected and written with one updateProperties call at the end
+        Map<String, String> properties = new HashMap<>();
+        if (changes.contains(DeviceChange.STATUS)) {
+            properties.put(RachioBindingConstants.PROPERTY_STATUS, device.getStatusNonNull());
+            updateState(RachioBindingConstants.CHANNEL_STATUS, new StringType(device.getStatusNonNull()));
         }
-
-        String deviceSerial = device.getSerialNumberSafe();
-        if (!deviceSerial.isEmpty()) {
-            updateProperty(RachioBindingConstants.PROPERTY_SERIAL, deviceSerial);
+        if (changes.contains(DeviceChange.PAUSED)) {
+            properties.put(RachioBindingConstants.PROPERTY_PAUSED, String.valueOf(device.isPaused()));
+            updateState(RachioBindingConstants.CHANNEL_PAUSED, device.isPaused() ? OnOffType.ON : OnOffType.OFF);
         }
-
-        String deviceName = device.getName();
-        if (!deviceName.isEmpty()) {
-            updateProperty(RachioBindingConstants.PROPERTY_DEVICE_NAME, deviceName);
+        if (changes.contains(DeviceChange.ENABLED)) {
+            properties.put(RachioBindingConstants.PROPERTY_ENABLED, String.valueOf(device.isEnabled()));
+            updateState(RachioBindingConstants.CHANNEL_ENABLED, device.isEnabled() ? OnOffType.ON : OnOffType.OFF);
         }
-
-        Instant createdDate = device.createdDate;
-        if (createdDate != null) {
-            updateProperty(RachioBindingConstants.PROPERTY_CREATED_DATE, createdDate.toString());
+        if (changes.contains(DeviceChange.DELETED)) {
+            updateState(RachioBindingConstants.CHANNEL_DELETED, device.isDeleted() ? OnOffType.ON : OnOffType.OFF);
         }
+        if (changes.contains(DeviceChange.ZONES)) {
+            updateState(RachioBindingConstants.CHANNEL_ZONES_COUNT, new DecimalType(device.zones.size()));
+        }
+
+        if (changes.contains(DeviceChange.PROPERTIES)) {
+            String deviceName = device.name;
+            if (!deviceName.isEmpty()) {
+                properties.put(RachioBindingConstants.PROPERTY_DEVICE_NAME, deviceName);
+            }
+
+            // Id, model, serial number and creation date do not change, set them until all are known
+            if (!staticPropertiesSet) {
+                properties.put(RachioBindingConstants.PROPERTY_ID, device.id);
+
+                String deviceModel = device.model;
+                if (!deviceModel.isEmpty()) {
+                    properties.put(RachioBindingConstants.PROPERTY_MODEL, deviceModel);
+                }
 
-        updateState(RachioBindingConstants.CHANNEL_STATUS, new StringType(device.getStatusNonNull()));
-        updateState(RachioBindingConstants.CHANNEL_PAUSED, device.paused ? OnOffType.ON : OnOffType.OFF);
-        updateState(RachioBindingConstants.CHANNEL_ENABLED, device.isEnabled() ? OnOffType.ON : OnOffType.OFF);
-        updateState(RachioBindingConstants.CHANNEL_DELETED, device.deleted ? OnOffType.ON : OnOffType.OFF);
+                String deviceSerial = device.serialNumber;
+                if (!deviceSerial.isEmpty()) {
+                    properties.put(RachioBindingConstants.PROPERTY_SERIAL, deviceSerial);
+                }
 
-        List<RachioZone> deviceZones = device.zones;
-        if (deviceZones != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONES_COUNT, new DecimalType(deviceZones.size()));
+                Instant createdDate = device.createdDate;
+                if (createdDate != null) {
+                    properties.put(RachioBindingConstants.PROPERTY_CREATED_DATE, createdDate.toString());
+                }
+                staticPropertiesSet = !deviceModel.isEmpty() && !deviceSerial.isEmpty() && createdDate != null;
+            }
         }
+        updateChangedProperties(properties);
 
+        // The remaining delay counts down between polls, so refresh it while a delay is active
         Instant rainDelayExp = device.rainDelayExpiration;
         if (rainDelayExp != null) {
             long nowSeconds = Instant.now().getEpochSecond();
             long expirationSeconds = rainDelayExp.getEpochSecond();
             long rainDelaySeconds = Math.max(0, expirationSeconds - nowSeconds);
-            updateState(RachioBindingConstants.CHANNEL_RAIN_DELAY, new DecimalType(rainDelaySeconds));
-        } else {
+            if (rainDelaySeconds > 0 || changes.contains(DeviceChange.RAIN_DELAY)) {
+                updateState(RachioBindingConstants.CHANNEL_RAIN_DELAY, new DecimalType(rainDelaySeconds));
+            }
+        } else if (changes.contains(DeviceChange.RAIN_DELAY)) {
             updateState(RachioBindingConstants.CHANNEL_RAIN_DELAY, new DecimalType(0));
         }
 
-        logger.debug("Device paused field: {}", device.paused);
+        logger.debug("Device paused field: {}", device.isPaused());
     }
 
     private void updateSavingsData(@Nullable RachioSavings savings) {
@@ -698,69 +751,65 @@ public class RachioDeviceHandler extends RachioHandler {
 
         logger.debug("Updating forecast data for device");
 
-        RachioForecast.DailyForecast todayForecast = forecast.getToday();
-        RachioForecast.DailyForecast tomorrowForecast = forecast.getTomorrow();
+        // Read the daily columns directly; day 0 is today, day 1 tomorrow
+        RachioForecastSeries days = forecast.getDaily();
         RachioForecast.CurrentConditions current = forecast.getCurrent();
 
-        if (todayForecast != null) {
-            Double tempHigh = todayForecast.getTemperatureHigh();
-            if (tempHigh != null) {
+        // Each channel is written once per update, so an unchanged value is recognised as such
+        Double currentTemp = current != null ? current.temperature : null;
+        if (currentTemp != null) {
+            updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_TEMP,
+                    new QuantityType<>(currentTemp, SIUnits.CELSIUS));
+        } else if (!days.isEmpty()) {
+            // Without current conditions, fall back to today's high
+            double tempHigh = days.get(Column.TEMPERATURE_HIGH, Column.HIGH_TEMPERATURE, 0);
+            if (!Double.isNaN(tempHigh)) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_TEMP,
                         new QuantityType<>(tempHigh, SIUnits.CELSIUS));
             }
+        }
 
-            Double tempLow = todayForecast.getTemperatureLow();
-            if (tempLow != null) {
-                updateState(RachioBindingConstants.CHANNEL_FORECAST_TEMP_TOMORROW,
-                        new QuantityType<>(tempLow, SIUnits.CELSIUS));
-            }
-
-            Double precipProb = todayForecast.precipProbability;
-            if (precipProb != null) {
+        if (!days.isEmpty()) {
+            double precipProb = days.get(Column.PRECIP_PROBABILITY, 0);
+            if (!Double.isNaN(precipProb)) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_PRECIP,
                         new QuantityType<>(precipProb * 100, Units.PERCENT));
             }
 
-            Double precipAccum = todayForecast.precipAccumulation;
-            if (precipAccum != null) {
+            double precipAccum = days.get(Column.PRECIP_ACCUMULATION, 0);
+            if (!Double.isNaN(precipAccum)) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_PRECIP_ACCUM,
-                        new QuantityType<>(precipAccum, MetricPrefix.MILLI(SIUnits.METRE)));
+                        new QuantityType<>(precipAccum, MILLIMETRE));
             }
 
-            Double et = todayForecast.getEvapotranspiration();
-            if (et != null) {
+            double et = days.get(Column.EVAPOTRANSPIRATION, 0);
+            if (!Double.isNaN(et)) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_ET,
-                        new QuantityType<>(et, MetricPrefix.MILLI(SIUnits.METRE)));
+                        new QuantityType<>(et, MILLIMETRE));
             }
 
-            Boolean smartSkip = todayForecast.getSmartSkip();
-            if (smartSkip != null) {
+            double smartSkip = days.get(Column.SMART_SKIP, 0);
+            if (!Double.isNaN(smartSkip)) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_ALERT,
-                        new StringType(smartSkip ? "SMART_SKIP_ACTIVE" : "NORMAL"));
+                        new StringType(smartSkip != 0 ? "SMART_SKIP_ACTIVE" : "NORMAL"));
             }
         }
 
-        if (tomorrowForecast != null) {
-            Double tempHighTomorrow = tomorrowForecast.getTemperatureHigh();
-            if (tempHighTomorrow != null) {
+        if (days.size() > 1) {
+            double tempHighTomorrow = days.get(Column.TEMPERATURE_HIGH, Column.HIGH_TEMPERATURE, 1);
+            if (!Double.isNaN(tempHighTomorrow)) {
                 updateState(RachioBindingConstants.CHANNEL_FORECAST_TEMP_TOMORROW,
                         new QuantityType<>(tempHighTomorrow, SIUnits.CELSIUS));
             }
 
-            Double tomorrowPrecipProb = tomorrowForecast.precipProbability;
-            if (tomorrowPrecipProb != null) {
+            double tomorrowPrecipProb = days.get(Column.PRECIP_PROBABILITY, 1);
+            if (!Double.isNaN(tomorrowPrecipProb)) {
                 updateState(RachioBindingConstants.CHANNEL_FORECAST_PRECIP_TOMORROW,
                         new QuantityType<>(tomorrowPrecipProb * 100, Units.PERCENT));
             }
         }
 
         if (current != null) {
-            Double currentTemp = current.temperature;
-            if (currentTemp != null) {
-                updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_TEMP,
-                        new QuantityType<>(currentTemp, SIUnits.CELSIUS));
-            }
-
             Double currentHumidity = current.humidity;
             if (currentHumidity != null) {
                 updateState(RachioBindingConstants.CHANNEL_DEVICE_FORECAST_HUMIDITY,
@@ -1,13 +1,22 @@
 package org.openhab.binding.rachio.internal.handler;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
-import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.MetricPrefix;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
@@ -15,6 +24,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,10 +36,32 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class RachioHandler extends BaseThingHandler implements RachioStatusListener {
 
+    /** How long a REFRESH command waits for the API before giving up, instead of queueing behind a slow poll */
+    protected static final Duration REFRESH_DEADLINE = Duration.ofSeconds(10);
+
+    /** Unit of the water depth, root depth and precipitation channels, built once instead of per update */
+    protected static final Unit<Length> MILLIMETRE = MetricPrefix.MILLI(SIUnits.METRE);
+
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     protected @Nullable ScheduledFuture<?> refreshJob;
 
+    /**
+     * A state as last published to a channel
+     */
+    private static class PublishedState {
+        final State state;
+        final long publishedAt;
+
+        PublishedState(State state, long publishedAt) {
+            this.state = state;
+            this.publishedAt = publishedAt;
+        }
+    }
+
+    // Last state published per channel id, so updates repeating it can be skipped
+    private final Map<String, PublishedState> publishedStates = new ConcurrentHashMap<>();
+
     protected RachioHandler(Thing thing) {
         super(thing);
     }
@@ -48,6 +80,9 @@ public abstract class RachioHandler extends BaseThingHandler implements RachioSt
      * @param refreshAction action to perform on refresh
      */
     protected void handleRefreshCommand(ChannelUID channelUID, Runnable refreshAction) {
+        // An explicit refresh publishes the channel even if its state did not change
+        forgetPublishedState(channelUID.getId());
+
         if (scheduler.isShutdown()) {
             logger.debug("Scheduler shutdown, skipping refresh for {}", channelUID);
             return;
@@ -110,6 +145,91 @@ public abstract class RachioHandler extends BaseThingHandler implements RachioSt
         }
     }
 
+    /**
+     * Publish a channel state unless it equals the state published last.
+     * Unchanged states are published again by the bridge's republish job once its republish interval has passed,
+     * since the poll does not update channels whose values did not change.
+     *
+     * @param channelID channel id
+     * @param state new state
+     */
+    @Override
+    protected void updateState(String channelID, State state) {
+        PublishedState published = publishedStates.get(channelID);
+        if (published != null && published.state.equals(state)) {
+            return;
+        }
+        super.updateState(channelID, state);
+    }
+
+    @Override
+    protected void updateState(ChannelUID channelUID, State state) {
+        publishedStates.put(channelUID.getId(), new PublishedState(state, System.nanoTime()));
+        super.updateState(channelUID, state);
+    }
+
+    /**
+     * Publish again every state that has not been published for the republish interval; called by the bridge.
+     * Skipped while the handler is not initialized, as async completions may still record states after dispose.
+     *
+     * @param interval time after which an unchanged state is published again
+     */
+    void republishStates(Duration interval) {
+        if (!isInitialized()) {
+            return;
+        }
+        long intervalNanos = interval.toNanos();
+        long now = System.nanoTime();
+        for (Map.Entry<String, PublishedState> entry : publishedStates.entrySet()) {
+            PublishedState published = entry.getValue();
+            if (now - published.publishedAt >= intervalNanos) {
+                updateState(new ChannelUID(getThing().getUID(), entry.getKey()), published.state);
+            }
+        }
+    }
+
+    /**
+     * Forget the published state of one channel, so its next update is published even if unchanged, e.g. to
+     * put back the state after a command the item already showed failed
+     *
+     * @param channelID channel id
+     */
+    protected void forgetPublishedState(String channelID) {
+        publishedStates.remove(channelID);
+    }
+
+    /**
+     * Forget the published states, so the next update of every channel is published
+     */
+    protected void clearPublishedStates() {
+        publishedStates.clear();
+    }
+
+    @Override
+    public void dispose() {
+        clearPublishedStates();
+        super.dispose();
+    }
+
+    /**
+     * Write the properties that differ from the current thing properties, all with one update of the thing.
+     * Nothing is written if none differs.
+     *
+     * @param properties new property values; properties not contained are left as they are
+     */
+    protected void updateChangedProperties(Map<String, String> properties) {
+        Map<String, String> current = getThing().getProperties();
+        Map<String, String> changed = new HashMap<>();
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            if (!property.getValue().equals(current.get(property.getKey()))) {
+                changed.put(property.getKey(), property.getValue());
+            }
+        }
+        if (!changed.isEmpty()) {
+            updateProperties(changed);
+        }
+    }
+
     /**
      * Convert string to StringType, handling null values
      * 
@@ -147,7 +267,7 @@ public abstract class RachioHandler extends BaseThingHandler implements RachioSt
     }
 
     @Override
-    public void onDeviceStatusChanged(@Nullable RachioDevice device) {
+    public void onDeviceStatusChanged(@Nullable RachioDeviceSnapshot device) {
         logger.debug("Base handler received device status changed: {}", device != null ? device.id : "null");
     }
 
@@ -162,12 +282,12 @@ public abstract class RachioHandler extends BaseThingHandler implements RachioSt
     }
 
     @Override
-    public void onDeviceUpdated(@Nullable RachioDevice device) {
+    public void onDeviceUpdated(@Nullable RachioDeviceSnapshot device) {
         logger.debug("Base handler received device updated: {}", device != null ? device.id : "null");
     }
 
     @Override
-    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZone zone) {
+    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZoneSnapshot zone) {
         logger.debug("Base handler received zone updated: zoneId={}", zoneId);
     }
 
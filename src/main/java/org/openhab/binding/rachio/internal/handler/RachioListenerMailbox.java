@@ -0,0 +1,206 @@
+package org.openhab.binding.rachio.internal.handler;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of events for one listener, drained in order by one task at a time on a shared executor.
+ * Senders (the polling thread, the webhook servlet) only enqueue, so a slow listener delays itself but not the
+ * poll, the webhook response or the other listeners. When the queue is full, an event replaces the queued event
+ * with the same key, so a listener that falls behind gets the latest snapshot of a device or zone instead of every
+ * intermediate one. Events without key, or with a key not queued, push out the oldest event.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioListenerMailbox implements Runnable {
+
+    /**
+     * A queued event
+     */
+    private static class Entry {
+        final @Nullable String key;
+        final Consumer<RachioStatusListener> action;
+        final long enqueuedAt;
+
+        Entry(@Nullable String key, Consumer<RachioStatusListener> action, long enqueuedAt) {
+            this.key = key;
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RachioListenerMailbox.class);
+
+    private final RachioStatusListener listener;
+    private final Executor executor;
+    private final int capacity;
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private boolean scheduled;
+    private boolean closed;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    /**
+     * @param listener receiver of the events
+     * @param executor executor the queue is drained on
+     * @param capacity maximum number of queued events
+     */
+    public RachioListenerMailbox(RachioStatusListener listener, Executor executor, int capacity) {
+        this.listener = listener;
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queue an event for the listener
+     *
+     * @param key identifies what the event is a snapshot of, e.g. {@code DEVICE:<id>}; null if it is not a
+     *            snapshot and must not be merged with others
+     * @param action delivery to the listener
+     */
+    public void offer(@Nullable String key, Consumer<RachioStatusListener> action) {
+        Entry entry = new Entry(key, action, System.nanoTime());
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= capacity && !replace(entry)) {
+                queue.pollFirst();
+                dropped.incrementAndGet();
+                logger.debug("Mailbox of listener {} is full, dropped oldest event", listener.getListenerId());
+            }
+            if (queue.size() < capacity) {
+                queue.addLast(entry);
+            }
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        schedule();
+    }
+
+    /**
+     * Replace the queued event with the same key by a newer one; called with the lock held
+     */
+    private boolean replace(Entry entry) {
+        String key = entry.key;
+        if (key == null) {
+            return false;
+        }
+        for (Iterator<Entry> it = queue.iterator(); it.hasNext();) {
+            if (key.equals(it.next().key)) {
+                it.remove();
+                coalesced.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Cannot deliver events to listener {}: {}", listener.getListenerId(), e.getMessage());
+            synchronized (this) {
+                dropped.addAndGet(queue.size());
+                queue.clear();
+                scheduled = false;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Entry entry;
+            synchronized (this) {
+                entry = queue.pollFirst();
+                if (entry == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            long lag = System.nanoTime() - entry.enqueuedAt;
+            totalLagNanos.addAndGet(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+            delivered.incrementAndGet();
+            try {
+                entry.action.accept(listener);
+            } catch (RuntimeException e) {
+                logger.debug("Error notifying listener {}: {}", listener.getListenerId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Discard queued events and refuse new ones
+     */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    public RachioStatusListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @return number of events waiting for delivery
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return number of events delivered so far
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * @return number of events replaced by a newer snapshot of the same device or zone
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of events dropped because the mailbox was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return average time between queueing and delivery of an event in milliseconds
+     */
+    public long getAverageLagMillis() {
+        long count = delivered.get();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLagNanos.get() / count) : 0;
+    }
+
+    /**
+     * @return longest time between queueing and delivery of an event in milliseconds
+     */
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+}
@@ -0,0 +1,156 @@
+package org.openhab.binding.rachio.internal.handler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.rachio.internal.handler.RachioStatusListener.Topic;
+
+/**
+ * Routing table from topic and device or zone id to the listeners subscribed to it.
+ * A listener subscribes to the ids it owns, or to a whole topic without id (discovery). Dispatch looks up the
+ * subscribers of one id, so its cost follows the number of interested listeners rather than the number of things.
+ * Events are not delivered on the sending thread but queued in a {@link RachioListenerMailbox} per listener.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioListenerRouter {
+
+    private static final int MAILBOX_CAPACITY = 32;
+
+    private final Executor executor;
+    private final Map<Topic, Map<String, List<RachioStatusListener>>> routes = new EnumMap<>(Topic.class);
+    private final Map<Topic, List<RachioStatusListener>> wildcards = new EnumMap<>(Topic.class);
+    private final Map<RachioStatusListener, RachioListenerMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor executor the mailboxes are drained on
+     */
+    public RachioListenerRouter(Executor executor) {
+        this.executor = executor;
+        // Filled once, so the enum maps are only read concurrently
+        for (Topic topic : Topic.values()) {
+            routes.put(topic, new ConcurrentHashMap<>());
+            wildcards.put(topic, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * @param listener subscriber
+     * @param topic kind of event
+     * @param id device or zone id the listener owns, or null for all events of the topic
+     */
+    public void subscribe(RachioStatusListener listener, Topic topic, @Nullable String id) {
+        mailboxes.computeIfAbsent(listener, key -> new RachioListenerMailbox(key, executor, MAILBOX_CAPACITY));
+        List<RachioStatusListener> listeners = id == null ? wildcards.get(topic)
+                : routes.get(topic).computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Subscribe a listener to all events of all topics
+     */
+    public void subscribeAll(RachioStatusListener listener) {
+        for (Topic topic : Topic.values()) {
+            subscribe(listener, topic, null);
+        }
+    }
+
+    /**
+     * Remove every subscription of a listener
+     */
+    public void unsubscribe(RachioStatusListener listener) {
+        RachioListenerMailbox mailbox = mailboxes.remove(listener);
+        if (mailbox != null) {
+            mailbox.close();
+        }
+        for (Topic topic : Topic.values()) {
+            wildcards.get(topic).remove(listener);
+            Map<String, List<RachioStatusListener>> byId = routes.get(topic);
+            for (Map.Entry<String, List<RachioStatusListener>> entry : byId.entrySet()) {
+                List<RachioStatusListener> listeners = entry.getValue();
+                if (listeners.remove(listener) && listeners.isEmpty()) {
+                    byId.remove(entry.getKey(), listeners);
+                }
+            }
+        }
+    }
+
+    public boolean isSubscribed(RachioStatusListener listener) {
+        return mailboxes.containsKey(listener);
+    }
+
+    /**
+     * @return the mailboxes of all subscribed listeners, for queue depth and lag metrics
+     */
+    public Collection<RachioListenerMailbox> getMailboxes() {
+        return Collections.unmodifiableCollection(mailboxes.values());
+    }
+
+    /**
+     * Deliver an event to the listeners of the whole topic and to those of the id
+     *
+     * @param topic kind of event
+     * @param id device or zone id the event is about, or null to reach only the listeners of the whole topic
+     * @param action delivery to one listener, run on the executor; failures are logged and do not stop the others
+     */
+    public void dispatch(Topic topic, @Nullable String id, Consumer<RachioStatusListener> action) {
+        deliver(wildcards.get(topic), key(topic, id), action);
+        dispatchExact(topic, id, action);
+    }
+
+    /**
+     * Deliver an event only to the listeners of the id, not to those of the whole topic
+     */
+    public void dispatchExact(Topic topic, @Nullable String id, Consumer<RachioStatusListener> action) {
+        if (id != null) {
+            List<RachioStatusListener> listeners = routes.get(topic).get(id);
+            if (listeners != null) {
+                deliver(listeners, key(topic, id), action);
+            }
+        }
+    }
+
+    /**
+     * Key under which a full mailbox merges events: device, zone and rate limit events are snapshots, so only the
+     * latest per id matters; webhook events are each distinct
+     */
+    private static @Nullable String key(Topic topic, @Nullable String id) {
+        if (topic == Topic.WEBHOOK) {
+            return null;
+        }
+        return id != null ? topic.name() + ":" + id : topic.name();
+    }
+
+    private void deliver(List<RachioStatusListener> listeners, @Nullable String key,
+            Consumer<RachioStatusListener> action) {
+        for (RachioStatusListener listener : listeners) {
+            RachioListenerMailbox mailbox = mailboxes.get(listener);
+            if (mailbox != null) {
+                mailbox.offer(key, action);
+            }
+        }
+    }
+
+    /**
+     * Discard the queued events of all listeners. Subscriptions are kept: listeners subscribe in their own
+     * initialize and unsubscribe in their own dispose, which a restart of the bridge alone does not repeat.
+     */
+    public void discardQueuedEvents() {
+        mailboxes.replaceAll((listener, mailbox) -> {
+            mailbox.close();
+            return new RachioListenerMailbox(listener, executor, MAILBOX_CAPACITY);
+        });
+    }
+}
@@ -2,8 +2,9 @@ package org.openhab.binding.rachio.internal.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
-import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 
 /**
  * Interface for receiving status updates from Rachio bridge
@@ -22,6 +23,20 @@ public interface RachioStatusListener {
         DISCOVERY
     }
 
+    /**
+     * Kinds of events a listener can subscribe to at the bridge
+     */
+    enum Topic {
+        /** Device data changed; routed by device id */
+        DEVICE,
+        /** Zone data or run status changed; routed by zone id */
+        ZONE,
+        /** Webhook event received; routed by device id */
+        WEBHOOK,
+        /** Rate limit status changed; only delivered to listeners of the whole topic */
+        RATE_LIMIT
+    }
+
     /**
      * Get unique listener ID
      * 
@@ -56,7 +71,7 @@ public interface RachioStatusListener {
      *
      * @param device the updated device data
      */
-    void onDeviceStatusChanged(@Nullable RachioDevice device);
+    void onDeviceStatusChanged(@Nullable RachioDeviceSnapshot device);
 
     /**
      * Called when device status changes by ID
@@ -78,7 +93,19 @@ public interface RachioStatusListener {
      *
      * @param device the updated device data
      */
-    void onDeviceUpdated(@Nullable RachioDevice device);
+    void onDeviceUpdated(@Nullable RachioDeviceSnapshot device);
+
+    /**
+     * Called after a poll when the device or any of its zones differs from the previous poll.
+     * Not called for devices that did not change. The default passes the whole device to
+     * {@link #onDeviceUpdated(RachioDeviceSnapshot)}.
+     *
+     * @param device the updated device data
+     * @param delta what changed since the previous poll
+     */
+    default void onDeviceChanged(RachioDeviceSnapshot device, RachioDeviceDelta delta) {
+        onDeviceUpdated(device);
+    }
 
     /**
      * Called when zone data is updated
@@ -86,7 +113,7 @@ public interface RachioStatusListener {
      * @param zoneId the zone ID
      * @param zone the updated zone data
      */
-    void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZone zone);
+    void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZoneSnapshot zone);
 
     /**
      * Called when rate limit status changes
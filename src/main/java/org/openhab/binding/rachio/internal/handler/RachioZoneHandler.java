@@ -1,5 +1,9 @@
 package org.openhab.binding.rachio.internal.handler;
 
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -7,16 +11,19 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.rachio.internal.RachioBindingConstants;
-import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
-import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+import org.openhab.binding.rachio.internal.api.RachioApiException;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.ZoneChange;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
+import org.openhab.binding.rachio.internal.api.dto.RachioZoneSnapshot;
 import org.openhab.binding.rachio.internal.api.dto.ZoneRunStatus;
 import org.openhab.binding.rachio.internal.config.RachioZoneConfiguration;
+import org.openhab.binding.rachio.internal.handler.RachioStatusListener.Topic;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
-import org.openhab.core.library.unit.MetricPrefix;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.ChannelUID;
@@ -45,7 +52,7 @@ public class RachioZoneHandler extends RachioHandler {
 
     private @Nullable RachioZoneConfiguration config;
     private @Nullable ScheduledFuture<?> refreshJob;
-    private @Nullable RachioZone lastZoneData;
+    private @Nullable RachioZoneSnapshot lastZoneData;
 
     private boolean channelsCreated = false;
 
@@ -79,8 +86,9 @@ public class RachioZoneHandler extends RachioHandler {
 
         if (bridgeHandler instanceof RachioBridgeHandler) {
             RachioBridgeHandler rachioBridgeHandler = (RachioBridgeHandler) bridgeHandler;
-            rachioBridgeHandler.registerZoneHandler(this);
-            rachioBridgeHandler.registerStatusListener(this);
+            RachioZoneConfiguration localConfig = config;
+            String zoneId = localConfig != null ? localConfig.zoneId : null;
+            rachioBridgeHandler.registerStatusListener(this, Topic.ZONE, zoneId);
             logger.debug("Registered with bridge handler");
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE,
@@ -100,7 +108,7 @@ public class RachioZoneHandler extends RachioHandler {
 
         // Refresh specific channel based on its ID
         String channelId = channelUID.getId();
-        RachioZone zoneData = lastZoneData;
+        RachioZoneSnapshot zoneData = lastZoneData;
 
         if (zoneData != null) {
             switch (channelId) {
@@ -108,7 +116,7 @@ public class RachioZoneHandler extends RachioHandler {
                     updateRunStatusFromZoneData(zoneData);
                     break;
                 case RachioBindingConstants.CHANNEL_ZONE_ENABLED:
-                    updateState(channelUID, zoneData.enabled ? OnOffType.ON : OnOffType.OFF);
+                    updateState(channelUID, zoneData.isEnabled() ? OnOffType.ON : OnOffType.OFF);
                     break;
                 case RachioBindingConstants.CHANNEL_ZONE_RUNTIME:
                     updateState(channelUID, new QuantityType<>(zoneData.runtime, Units.MINUTE));
@@ -484,14 +492,25 @@ public class RachioZoneHandler extends RachioHandler {
             switch (channelId) {
                 case RachioBindingConstants.CHANNEL_ZONE_RUN:
                     if (command instanceof OnOffType) {
-                        if (command == OnOffType.ON) {
+                        boolean start = command == OnOffType.ON;
+                        CompletableFuture<Void> sent;
+                        if (start) {
                             // Get default duration from zone runtime or use 5 minutes (300 seconds)
-                            RachioZone zoneData = lastZoneData;
+                            RachioZoneSnapshot zoneData = lastZoneData;
                             int duration = zoneData != null ? zoneData.runtime * 60 : 300; // Convert minutes to seconds
-                            rachioBridgeHandler.startZone(localConfig.zoneId, duration);
+                            sent = rachioBridgeHandler.startZone(localConfig.zoneId, duration);
                         } else {
-                            rachioBridgeHandler.stopZone(localConfig.zoneId);
+                            sent = rachioBridgeHandler.stopZone(localConfig.zoneId);
                         }
+                        // A superseded command is cancelled and the newer one owns the channel; a failed one must
+                        // not leave the item showing the requested state until the next poll
+                        sent.whenComplete((result, error) -> {
+                            if (error != null && !(error instanceof CancellationException)) {
+                                logger.warn("Failed to {} zone {}: {}", start ? "start" : "stop", localConfig.zoneId,
+                                        RachioApiException.from(error).getMessage());
+                                revertRunChannel();
+                            }
+                        });
                     }
                     break;
                 case RachioBindingConstants.CHANNEL_ZONE_ENABLED:
@@ -502,8 +521,9 @@ public class RachioZoneHandler extends RachioHandler {
                 case RachioBindingConstants.CHANNEL_ZONE_RUNTIME:
                     if (command instanceof DecimalType) {
                         int minutes = ((DecimalType) command).intValue();
-                        if (lastZoneData != null) {
-                            lastZoneData.runtime = minutes;
+                        RachioZoneSnapshot zoneData = lastZoneData;
+                        if (zoneData != null) {
+                            lastZoneData = zoneData.withRuntime(minutes);
                             updateState(channelUID, new QuantityType<>(minutes, Units.MINUTE));
                             logger.debug("Updated zone runtime locally to {} minutes", minutes);
                         }
@@ -542,9 +562,10 @@ public class RachioZoneHandler extends RachioHandler {
             RachioZoneConfiguration localConfig = config;
             if (localConfig != null) {
 
-                RachioZone zoneData = ((RachioBridgeHandler) bridgeHandler).getZoneData(localConfig.zoneId);
+                RachioZoneSnapshot zoneData = ((RachioBridgeHandler) bridgeHandler).getZoneData(localConfig.zoneId);
                 if (zoneData != null) {
-                    updateZoneData(zoneData);
+                    // Explicit refresh, push every channel
+                    updateZoneData(zoneData, EnumSet.allOf(ZoneChange.class));
                 }
             }
         }
@@ -553,57 +574,80 @@ public class RachioZoneHandler extends RachioHandler {
     /**
      * Update zone data with new information
      */
-    public void updateZoneData(@Nullable RachioZone zoneData) {
+    public void updateZoneData(@Nullable RachioZoneSnapshot zoneData) {
         if (zoneData == null) {
             return;
         }
 
-        lastZoneData = zoneData;
+        updateZoneData(zoneData, RachioDeviceDelta.between(lastZoneData, zoneData));
+    }
 
-        // Update basic zone properties
-        updateState(RachioBindingConstants.CHANNEL_ZONE_ENABLED, zoneData.enabled ? OnOffType.ON : OnOffType.OFF);
-        updateState(RachioBindingConstants.CHANNEL_ZONE_RUNTIME, new QuantityType<>(zoneData.runtime, Units.MINUTE));
+    /**
+     * Update the channels affected by the given changes
+     *
+     * @param zoneData current zone data
+     * @param changes what changed since the data last applied
+     */
+    private void updateZoneData(RachioZoneSnapshot zoneData, Set<ZoneChange> changes) {
+        lastZoneData = zoneData;
 
-        if (zoneData.soil != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONE_SOIL, new StringType(zoneData.soil));
+        if (changes.contains(ZoneChange.ENABLED)) {
+            updateState(RachioBindingConstants.CHANNEL_ZONE_ENABLED,
+                    zoneData.isEnabled() ? OnOffType.ON : OnOffType.OFF);
         }
-
-        if (zoneData.crop != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONE_CROP, new StringType(zoneData.crop));
+        if (changes.contains(ZoneChange.RUNTIME)) {
+            updateState(RachioBindingConstants.CHANNEL_ZONE_RUNTIME,
+                    new QuantityType<>(zoneData.runtime, Units.MINUTE));
         }
-
-        if (zoneData.nozzle != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONE_NOZZLE, new StringType(zoneData.nozzle));
+        if (changes.contains(ZoneChange.RUN_STATUS)) {
+            updateRunStatusFromZoneData(zoneData);
         }
 
-        if (zoneData.shade != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONE_SHADE, new StringType(zoneData.shade));
-        }
+        if (changes.contains(ZoneChange.CATALOG)) {
+            if (zoneData.soil != null) {
+                updateState(RachioBindingConstants.CHANNEL_ZONE_SOIL, new StringType(zoneData.soil));
+            }
 
-        if (zoneData.slope != null) {
-            updateState(RachioBindingConstants.CHANNEL_ZONE_SLOPE, new StringType(zoneData.slope));
+            if (zoneData.crop != null) {
+                updateState(RachioBindingConstants.CHANNEL_ZONE_CROP, new StringType(zoneData.crop));
+            }
+
+            if (zoneData.nozzle != null) {
+                updateState(RachioBindingConstants.CHANNEL_ZONE_NOZZLE, new StringType(zoneData.nozzle));
+            }
+
+            if (zoneData.shade != null) {
+                updateState(RachioBindingConstants.CHANNEL_ZONE_SHADE, new StringType(zoneData.shade));
+            }
+
+            if (zoneData.slope != null) {
+                updateState(RachioBindingConstants.CHANNEL_ZONE_SLOPE, new StringType(zoneData.slope));
+            }
         }
 
-        updateState(RachioBindingConstants.CHANNEL_ZONE_IRRIGATION_EFFICIENCY, new DecimalType(zoneData.efficiency));
+        if (changes.contains(ZoneChange.WATER)) {
+            updateState(RachioBindingConstants.CHANNEL_ZONE_IRRIGATION_EFFICIENCY,
+                    new DecimalType(zoneData.efficiency));
 
-        updateState(RachioBindingConstants.CHANNEL_ZONE_WATER_AVAILABLE,
-                new QuantityType<>(zoneData.availableWater, MetricPrefix.MILLI(SIUnits.METRE)));
+            updateState(RachioBindingConstants.CHANNEL_ZONE_WATER_AVAILABLE,
+                    new QuantityType<>(zoneData.availableWater, MILLIMETRE));
 
-        // Water Depth - using depthOfWater field
-        updateState(RachioBindingConstants.CHANNEL_ZONE_WATER_DEPTH,
-                new QuantityType<>(zoneData.depthOfWater, MetricPrefix.MILLI(SIUnits.METRE)));
+            // Water Depth - using depthOfWater field
+            updateState(RachioBindingConstants.CHANNEL_ZONE_WATER_DEPTH,
+                    new QuantityType<>(zoneData.depthOfWater, MILLIMETRE));
 
-        // Root Depth - using rootZoneDepth field
-        updateState(RachioBindingConstants.CHANNEL_ZONE_ROOT_DEPTH,
-                new QuantityType<>(zoneData.rootZoneDepth, MetricPrefix.MILLI(SIUnits.METRE)));
+            // Root Depth - using rootZoneDepth field
+            updateState(RachioBindingConstants.CHANNEL_ZONE_ROOT_DEPTH,
+                    new QuantityType<>(zoneData.rootZoneDepth, MILLIMETRE));
 
-        // Moisture depletion - using managementAllowedDepletion field
-        updateState(RachioBindingConstants.CHANNEL_ZONE_DEPLETION,
-                new DecimalType(zoneData.managementAllowedDepletion));
+            // Moisture depletion - using managementAllowedDepletion field
+            updateState(RachioBindingConstants.CHANNEL_ZONE_DEPLETION,
+                    new DecimalType(zoneData.managementAllowedDepletion));
 
-        // Zone Area - using zoneArea field
-        updateState(RachioBindingConstants.CHANNEL_ZONE_AREA,
-                new QuantityType<>(zoneData.zoneArea, SIUnits.SQUARE_METRE));
+            // Zone Area - using zoneArea field
+            updateState(RachioBindingConstants.CHANNEL_ZONE_AREA,
+                    new QuantityType<>(zoneData.zoneArea, SIUnits.SQUARE_METRE));
+        }
 
         updateStatus(ThingStatus.ONLINE);
     }
@@ -623,16 +667,29 @@ public class RachioZoneHandler extends RachioHandler {
         updateState(RachioBindingConstants.CHANNEL_ZONE_RUN, isRunning ? OnOffType.ON : OnOffType.OFF);
 
         // Get duration from last zone data if available
-        RachioZone zoneData = lastZoneData;
+        RachioZoneSnapshot zoneData = lastZoneData;
         if (zoneData != null && zoneData.duration > 0) {
             updateState(RachioBindingConstants.CHANNEL_ZONE_DURATION, new DecimalType(zoneData.duration));
         }
     }
 
+    /**
+     * Publish the run state last known from the API again, replacing the state a failed command left on the item
+     */
+    private void revertRunChannel() {
+        forgetPublishedState(RachioBindingConstants.CHANNEL_ZONE_RUN);
+        RachioZoneSnapshot zoneData = lastZoneData;
+        if (zoneData != null) {
+            updateRunStatusFromZoneData(zoneData);
+        } else {
+            refreshZone();
+        }
+    }
+
     /**
      * Helper method to update run status from zone data
      */
-    private void updateRunStatusFromZoneData(RachioZone zoneData) {
+    private void updateRunStatusFromZoneData(RachioZoneSnapshot zoneData) {
         ZoneRunStatus runStatus = zoneData.lastRunStatus;
         if (runStatus != null) {
             updateZoneRunStatus(runStatus);
@@ -668,7 +725,7 @@ public class RachioZoneHandler extends RachioHandler {
     }
 
     @Override
-    public void onDeviceStatusChanged(@Nullable RachioDevice device) {
+    public void onDeviceStatusChanged(@Nullable RachioDeviceSnapshot device) {
         // Zone handler doesn't need full device updates
     }
 
@@ -683,16 +740,29 @@ public class RachioZoneHandler extends RachioHandler {
     }
 
     @Override
-    public void onDeviceUpdated(@Nullable RachioDevice device) {
+    public void onDeviceUpdated(@Nullable RachioDeviceSnapshot device) {
         // Zone handler doesn't need full device updates
     }
 
     @Override
-    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZone zone) {
+    public void onDeviceChanged(RachioDeviceSnapshot device, RachioDeviceDelta delta) {
+        RachioZoneConfiguration localConfig = config;
+        if (localConfig == null || delta.getZoneChanges(localConfig.zoneId).isEmpty()) {
+            return;
+        }
+        RachioZoneSnapshot zone = device.getZone(localConfig.zoneId);
+        if (zone != null) {
+            updateZoneData(zone);
+        }
+    }
+
+    @Override
+    public void onZoneUpdated(@Nullable String zoneId, @Nullable RachioZoneSnapshot zone) {
         // Check if this update is for our zone
+        // Routed by zone id; the first parameter carries the device id for some senders, so match the zone itself
         RachioZoneConfiguration localConfig = config;
-        if (localConfig != null && zoneId != null && zoneId.equals(localConfig.zoneId) && zone != null) {
-            logger.debug("Zone update received for our zone: {}", zoneId);
+        if (localConfig != null && zone != null && zone.id.equals(localConfig.zoneId)) {
+            logger.debug("Zone update received for our zone: {}", zone.id);
             updateZoneData(zone);
         }
     }
@@ -733,7 +803,6 @@ public class RachioZoneHandler extends RachioHandler {
         if (bridge != null) {
             ThingHandler bridgeHandler = bridge.getHandler();
             if (bridgeHandler instanceof RachioBridgeHandler) {
-                ((RachioBridgeHandler) bridgeHandler).unregisterZoneHandler(this);
                 ((RachioBridgeHandler) bridgeHandler).unregisterStatusListener(this);
             }
         }
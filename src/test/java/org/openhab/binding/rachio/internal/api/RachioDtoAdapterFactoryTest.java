@@ -0,0 +1,125 @@
+package org.openhab.binding.rachio.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rachio.internal.api.dto.RachioDevice;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceSnapshot;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecast;
+import org.openhab.binding.rachio.internal.api.dto.RachioPerson;
+import org.openhab.binding.rachio.internal.api.dto.RachioZone;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for {@link RachioDtoAdapterFactory}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioDtoAdapterFactoryTest {
+
+    private static final String PERSON = "{\"id\":\"person-1\",\"username\":\"user\",\"devices\":[{\"id\":\"device-1\","
+            + "\"name\":\"Front yard\",\"status\":\"ONLINE\",\"serialNumber\":\"SN123\",\"scheduleRules\":[{\"id\":"
+            + "\"rule\"}],\"location\":{\"lat\":1},\"zones\":[{\"id\":\"zone-1\",\"zoneNumber\":1,\"name\":\"Lawn\","
+            + "\"enabled\":true,\"customNozzle\":{\"name\":\"FIXED_SPRAY_HEAD\"},\"imageUrl\":\"x\"}]}]}";
+
+    private final Gson gson = RachioGson.get();
+
+    private static RachioDevice first(RachioPerson person) {
+        assertEquals(1, person.devices.size());
+        return person.devices.get(0);
+    }
+
+    @Test
+    public void readsSerialUnderEitherName() {
+        RachioDevice legacy = gson.fromJson("{\"id\":\"d\",\"serial\":\"A1\"}", RachioDevice.class);
+        assertEquals("A1", legacy.serial);
+        assertEquals("A1", legacy.serialNumber);
+
+        RachioDevice current = gson.fromJson("{\"id\":\"d\",\"serialNumber\":\"B2\"}", RachioDevice.class);
+        assertEquals("B2", current.serial);
+        assertEquals("B2", current.serialNumber);
+        assertEquals("B2", RachioDeviceSnapshot.of(current).serialNumber);
+    }
+
+    @Test
+    public void writesSerialOnce() {
+        RachioDevice device = new RachioDevice();
+        device.id = "d";
+        device.serial = device.serialNumber = "A1";
+
+        String json = gson.toJson(device);
+
+        assertTrue(json.contains("\"serial\":\"A1\""), json);
+        assertFalse(json.contains("serialNumber"), json);
+        assertEquals("A1", gson.fromJson(json, RachioDevice.class).serialNumber);
+    }
+
+    @Test
+    public void skipsUnknownFieldsAndUnexpectedTypes() {
+        RachioZone zone = gson.fromJson("{\"id\":\"z\",\"unknown\":{\"a\":[1,2]},\"zoneNumber\":\"two\","
+                + "\"runtime\":600,\"name\":null}", RachioZone.class);
+
+        assertEquals("z", zone.id);
+        assertEquals(0, zone.zoneNumber);
+        assertEquals(600, zone.runtime);
+        assertEquals("", zone.name);
+    }
+
+    @Test
+    public void decodesWholeDocumentWithoutProjection() {
+        RachioDevice device = first(gson.fromJson(PERSON, RachioPerson.class));
+
+        assertEquals("Front yard", device.name);
+        assertEquals("SN123", device.serialNumber);
+        assertEquals(1, device.scheduleRules.size());
+        assertNotNull(device.location);
+        assertEquals("Lawn", device.zones.get(0).name);
+    }
+
+    @Test
+    public void projectionSkipsFieldsOutsideIt() throws IOException {
+        RachioProjection projection = RachioProjection.parse("devices[id,serialNumber,zones[id,enabled]]");
+
+        RachioPerson person = RachioGson.getAdapter(RachioPerson.class, projection).fromJson(PERSON);
+
+        assertNull(person.id);
+        assertNull(person.username);
+        RachioDevice device = first(person);
+        assertEquals("device-1", device.id);
+        assertEquals("SN123", device.serialNumber);
+        assertEquals("", device.name);
+        assertEquals("", device.status);
+        assertTrue(device.scheduleRules.isEmpty());
+        assertNull(device.location);
+        RachioZone zone = device.zones.get(0);
+        assertEquals("zone-1", zone.id);
+        assertTrue(zone.enabled);
+        assertEquals(0, zone.zoneNumber);
+        assertEquals("", zone.name);
+    }
+
+    @Test
+    public void projectionWithoutNestedFieldsDecodesNestedObjectsWhole() throws IOException {
+        RachioPerson person = RachioGson.getAdapter(RachioPerson.class, RachioProjection.parse("devices"))
+                .fromJson(PERSON);
+
+        assertNull(person.id);
+        RachioDevice device = first(person);
+        assertEquals("Front yard", device.name);
+        assertEquals("Lawn", device.zones.get(0).name);
+    }
+
+    @Test
+    public void projectedAdaptersAreShared() {
+        RachioProjection projection = RachioProjection.parse("id,zones[id]");
+
+        assertSame(RachioGson.getAdapter(RachioDevice.class, projection),
+                RachioGson.getAdapter(RachioDevice.class, RachioProjection.parse("id,zones[id]")));
+        assertThrows(IllegalArgumentException.class, () -> RachioGson.getAdapter(RachioForecast.class, projection));
+    }
+}
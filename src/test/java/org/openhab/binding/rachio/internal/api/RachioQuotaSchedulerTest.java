@@ -0,0 +1,115 @@
+package org.openhab.binding.rachio.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RachioQuotaScheduler}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioQuotaSchedulerTest {
+
+    private static final int LIMIT = 1500;
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-01-01T12:00:00Z").toEpochMilli());
+    private final RachioQuotaScheduler scheduler = new RachioQuotaScheduler(now::get);
+
+    private int acquire(RachioRequestPriority priority, int attempts) {
+        int granted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (scheduler.tryAcquire(priority)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Test
+    public void shedsBackgroundBeforeStatusBeforeCommands() {
+        // At the warning reserve (10%) only background calls are shed
+        scheduler.update(LIMIT / 10, LIMIT, 3600);
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+        assertTrue(scheduler.tryAcquire(RachioRequestPriority.STATUS));
+        assertTrue(scheduler.tryAcquire(RachioRequestPriority.COMMAND));
+
+        // At the critical reserve (2%) status calls are shed as well
+        scheduler.update(LIMIT * 2 / 100, LIMIT, 3600);
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.STATUS));
+        assertTrue(scheduler.tryAcquire(RachioRequestPriority.COMMAND));
+
+        // Commands are only refused when nothing is left
+        scheduler.update(0, LIMIT, 3600);
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.COMMAND));
+        assertEquals(2, scheduler.getShedCount(RachioRequestPriority.BACKGROUND));
+        assertEquals(1, scheduler.getShedCount(RachioRequestPriority.STATUS));
+        assertEquals(1, scheduler.getShedCount(RachioRequestPriority.COMMAND));
+    }
+
+    @Test
+    public void burstCoversStartupRefreshesOfAllDevices() {
+        // Poll plus five device refreshes, savings and forecast of five devices
+        scheduler.setCallMix(6, 10);
+        assertEquals(12, acquire(RachioRequestPriority.STATUS, 12));
+        assertEquals(20, acquire(RachioRequestPriority.BACKGROUND, 20));
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+    }
+
+    @Test
+    public void statusMayUseBackgroundShareButNotTheOtherWayRound() {
+        assertEquals(20, acquire(RachioRequestPriority.STATUS, 20));
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.STATUS));
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+
+        RachioQuotaScheduler other = new RachioQuotaScheduler(now::get);
+        int background = 0;
+        while (other.tryAcquire(RachioRequestPriority.BACKGROUND)) {
+            background++;
+        }
+        assertEquals(10, background);
+        assertTrue(other.tryAcquire(RachioRequestPriority.STATUS));
+    }
+
+    @Test
+    public void refillIsSharedByCallMix() {
+        scheduler.setCallMix(1, 3);
+        // 1530 calls over 1500 seconds leave one token per second after the command reserve
+        scheduler.update(1530, LIMIT, 1500);
+        acquire(RachioRequestPriority.BACKGROUND, 10);
+        acquire(RachioRequestPriority.STATUS, 10);
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.STATUS));
+
+        // About 8 tokens are added: three quarters for background, one quarter for status
+        now.addAndGet(8_000);
+        assertEquals(5, acquire(RachioRequestPriority.BACKGROUND, 10));
+        assertEquals(1, acquire(RachioRequestPriority.STATUS, 10));
+    }
+
+    @Test
+    public void budgetResetsWhenWindowRollsOver() {
+        scheduler.update(0, LIMIT, 60);
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.COMMAND));
+        assertFalse(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+
+        now.addAndGet(61_000);
+        assertTrue(scheduler.tryAcquire(RachioRequestPriority.COMMAND));
+        assertTrue(scheduler.tryAcquire(RachioRequestPriority.BACKGROUND));
+        assertEquals(LIMIT - 2, scheduler.getEstimatedRemaining());
+    }
+
+    @Test
+    public void pollingIntervalStretchesWithCallsPerCycle() {
+        scheduler.update(LIMIT, LIMIT, 86400);
+        // 1470 calls after the command reserve over one day
+        assertEquals(60, scheduler.getRecommendedPollingInterval(30, 1));
+        assertEquals(240, scheduler.getRecommendedPollingInterval(30, 4));
+        assertEquals(300, scheduler.getRecommendedPollingInterval(300, 1));
+    }
+}
@@ -0,0 +1,100 @@
+package org.openhab.binding.rachio.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RachioRetryPolicy}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioRetryPolicyTest {
+
+    private final RachioRetryPolicy policy = new RachioRetryPolicy(20, 1000);
+
+    private static RachioApiException status(int statusCode) {
+        return new RachioApiException("HTTP " + statusCode, statusCode);
+    }
+
+    @Test
+    public void retriesTransientStatusesOnly() {
+        for (int statusCode : new int[] { 429, 502, 503, 504 }) {
+            assertTrue(policy.isRetryable(status(statusCode)), "status " + statusCode);
+        }
+        for (int statusCode : new int[] { 400, 401, 403, 404, 500 }) {
+            assertFalse(policy.isRetryable(status(statusCode)), "status " + statusCode);
+            assertEquals(-1L, policy.getRetryDelay(1, status(statusCode), 0));
+        }
+        assertTrue(policy.isRetryable(new RachioApiException("network", new IOException("reset"))));
+        assertFalse(policy.isRetryable(new RachioApiException("unknown")));
+    }
+
+    @Test
+    public void retriesCommandsOnlyWhenNotProcessed() {
+        assertTrue(policy.isRetryable(status(429), false));
+        assertTrue(policy.isRetryable(status(503).withRetryAfterMillis(2000), false));
+        assertTrue(policy.isRetryable(new RachioApiException("network", new ConnectException("refused")), false));
+
+        assertFalse(policy.isRetryable(status(503), false));
+        assertFalse(policy.isRetryable(status(502), false));
+        assertFalse(policy.isRetryable(status(504), false));
+        assertFalse(policy.isRetryable(new RachioApiException("network", new IOException("reset")), false));
+        assertFalse(policy.isRetryable(
+                new RachioApiException("network", new HttpTimeoutException("request timed out")), false));
+        assertEquals(-1L, policy.getRetryDelay(1, new RachioApiException("network", new IOException()), 0, false));
+    }
+
+    @Test
+    public void stopsAfterMaxRetries() {
+        RachioRetryPolicy limited = new RachioRetryPolicy(2, 1000);
+        assertTrue(limited.getRetryDelay(2, status(503), 0) >= 0);
+        assertEquals(-1L, limited.getRetryDelay(3, status(503), 0));
+        assertEquals(-1L, new RachioRetryPolicy(0, 1000).getRetryDelay(1, status(503), 0));
+    }
+
+    @Test
+    public void honoursRetryAfterAndRateLimitReset() {
+        assertEquals(5000L, policy.getRetryDelay(1, status(503).withRetryAfterMillis(5000), 0));
+        // Without Retry-After a 429 waits for the rate limit reset
+        assertEquals(30000L, policy.getRetryDelay(1, status(429), 30));
+    }
+
+    @Test
+    public void capsDelaysAtOneMinute() {
+        // A server delay beyond the cap is reported instead of waited for
+        assertEquals(-1L, policy.getRetryDelay(1, status(503).withRetryAfterMillis(61000), 0));
+        assertEquals(-1L, policy.getRetryDelay(1, status(429), 120));
+        assertEquals(60000L, policy.getRetryDelay(1, status(503).withRetryAfterMillis(60000), 0));
+
+        for (int attempt = 1; attempt <= 20; attempt++) {
+            long delay = policy.getRetryDelay(attempt, status(502), 0);
+            long ceiling = Math.min(60000, 1000L << (attempt - 1));
+            assertTrue(delay >= 0 && delay <= ceiling, "attempt " + attempt + " waited " + delay);
+        }
+    }
+
+    @Test
+    public void parsesRetryAfterHeader() {
+        assertEquals(120000L, RachioRetryPolicy.parseRetryAfter("120"));
+        assertEquals(0L, RachioRetryPolicy.parseRetryAfter(" 0 "));
+        assertEquals(-1L, RachioRetryPolicy.parseRetryAfter(null));
+        assertEquals(-1L, RachioRetryPolicy.parseRetryAfter(""));
+        assertEquals(-1L, RachioRetryPolicy.parseRetryAfter("soon"));
+        assertEquals(0L, RachioRetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+        String inTwoMinutes = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(2)
+                .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+        long delay = RachioRetryPolicy.parseRetryAfter(inTwoMinutes);
+        assertTrue(delay > 110000 && delay <= 120000, "delay " + delay);
+    }
+}
@@ -0,0 +1,93 @@
+package org.openhab.binding.rachio.internal.api;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Micro benchmark of {@link TimestampParser} against the exception driven cascade InstantTypeAdapter used before.
+ * Not a unit test; run its main method from the IDE or with {@code java -cp <test and main classes>}. Prints the
+ * average time per value for each input format after a warm-up.
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class TimestampParserBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int ITERATIONS = 200_000;
+
+    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
+    private static final DateTimeFormatter LOCAL_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final String[][] INPUTS = { { "ISO with Z", "2024-05-01T06:00:00.123Z" },
+            { "ISO local", "2024-05-01T06:00:00" }, { "epoch seconds", "1714543200" },
+            { "epoch millis", "1714543200123" } };
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        for (String[] input : INPUTS) {
+            String value = input[1];
+            TimestampParser parser = new TimestampParser();
+            double cascade = measure(() -> cascade(value));
+            double singlePass = measure(() -> parser.parse(value));
+            System.out.printf("%-14s cascade %8.1f ns  single pass %6.1f ns%n", input[0], cascade, singlePass);
+        }
+        // Keeps the results alive so the JIT cannot drop the parsing
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private interface Parse {
+        @Nullable
+        Instant run();
+    }
+
+    private static double measure(Parse parse) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            loop(parse);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            loop(parse);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / (double) ITERATIONS;
+    }
+
+    private static void loop(Parse parse) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Instant result = parse.run();
+            sink += result != null ? result.getNano() : 1;
+        }
+    }
+
+    /**
+     * The former InstantTypeAdapter.parseInstant, unchanged apart from the unreachable millisecond branch
+     */
+    private static @Nullable Instant cascade(String value) {
+        String trimmed = value.trim();
+        try {
+            return Instant.from(ISO_FORMATTER.parse(trimmed));
+        } catch (DateTimeParseException e1) {
+            try {
+                return Instant.from(ISO_FORMATTER.parse(trimmed + "Z"));
+            } catch (DateTimeParseException e2) {
+                try {
+                    return Instant.ofEpochSecond(Long.parseLong(trimmed));
+                } catch (NumberFormatException e3) {
+                    try {
+                        return Instant.from(LOCAL_FORMATTER.parse(trimmed));
+                    } catch (DateTimeParseException e4) {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+}
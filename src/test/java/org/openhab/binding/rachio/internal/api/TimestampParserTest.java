@@ -0,0 +1,86 @@
+package org.openhab.binding.rachio.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimestampParser}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class TimestampParserTest {
+
+    private final TimestampParser parser = new TimestampParser();
+
+    private static Instant utc(String iso) {
+        return Instant.parse(iso);
+    }
+
+    @Test
+    public void parsesOffsets() {
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00:00Z"));
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00:00z"));
+        assertEquals(utc("2024-05-01T04:00:00Z"), parser.parse("2024-05-01T06:00:00+02:00"));
+        assertEquals(utc("2024-05-01T04:00:00Z"), parser.parse("2024-05-01T06:00:00+0200"));
+        assertEquals(utc("2024-05-01T04:00:00Z"), parser.parse("2024-05-01T06:00:00+02"));
+        assertEquals(utc("2024-05-01T11:30:00Z"), parser.parse("2024-05-01T06:00:00-05:30"));
+        // Crossing midnight and a year boundary
+        assertEquals(utc("2023-12-31T23:00:00Z"), parser.parse("2024-01-01T01:00:00+02:00"));
+    }
+
+    @Test
+    public void parsesLocalAndShortForms() {
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00:00"));
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01 06:00:00"));
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00Z"));
+        assertEquals(utc("2024-02-29T12:00:00Z"), parser.parse("  2024-02-29T12:00:00Z\n"));
+    }
+
+    @Test
+    public void parsesFractionalSeconds() {
+        assertEquals(utc("2024-05-01T06:00:00.123Z"), parser.parse("2024-05-01T06:00:00.123Z"));
+        assertEquals(utc("2024-05-01T06:00:00.500Z"), parser.parse("2024-05-01T06:00:00,5Z"));
+        assertEquals(utc("2024-05-01T06:00:00.123456789Z"), parser.parse("2024-05-01T06:00:00.123456789Z"));
+        // Digits beyond nanoseconds are dropped
+        assertEquals(utc("2024-05-01T06:00:00.123456789Z"), parser.parse("2024-05-01T06:00:00.1234567891Z"));
+        assertEquals(utc("2024-05-01T04:00:00.250Z"), parser.parse("2024-05-01T06:00:00.25+02:00"));
+    }
+
+    @Test
+    public void classifiesEpochValuesByMagnitude() {
+        assertEquals(Instant.ofEpochSecond(1714543200L), parser.parse("1714543200"));
+        assertEquals(Instant.ofEpochMilli(1714543200123L), parser.parse("1714543200123"));
+        assertEquals(Instant.ofEpochSecond(999_999_999_999L), parser.parse("999999999999"));
+        assertEquals(Instant.ofEpochMilli(1_000_000_000_000L), parser.parse("1000000000000"));
+        assertEquals(Instant.ofEpochSecond(-86400), parser.parse("-86400"));
+        assertEquals(Instant.EPOCH, parser.parse("0"));
+    }
+
+    @Test
+    public void returnsNullForInvalidInput() {
+        String[] invalid = { "", "   ", "abc", "12a4", "-", "1234567890123456789", "2024-13-01T00:00:00Z",
+                "2024-02-30T00:00:00Z", "2023-02-29T00:00:00Z", "2024-05-01T24:00:00Z", "2024-05-01T06:60:00Z",
+                "2024-05-01T06:00:60Z", "2024-05-01T06:00:00.Z", "2024-05-01T06:00:00+2", "2024-05-01T06:00:00+19:00",
+                "2024-05-01T06:00:00Zjunk", "2024-05-01X06:00:00Z", "2024/05/01T06:00:00Z" };
+        for (String value : invalid) {
+            assertNull(parser.parse(value), value);
+        }
+        assertNull(parser.parse(null));
+    }
+
+    @Test
+    public void detectsFormatAgainAfterAChange() {
+        // One instance sees both formats; the remembered format must not reject the other one
+        assertEquals(Instant.ofEpochSecond(1714543200L), parser.parse("1714543200"));
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00:00Z"));
+        assertEquals(utc("2024-05-01T07:00:00Z"), parser.parse("2024-05-01T07:00:00Z"));
+        assertEquals(Instant.ofEpochMilli(1714543200123L), parser.parse("1714543200123"));
+        assertNull(parser.parse("garbage"));
+        assertEquals(utc("2024-05-01T06:00:00Z"), parser.parse("2024-05-01T06:00:00Z"));
+    }
+}
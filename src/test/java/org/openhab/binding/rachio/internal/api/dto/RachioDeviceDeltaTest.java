@@ -0,0 +1,121 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.DeviceChange;
+import org.openhab.binding.rachio.internal.api.dto.RachioDeviceDelta.ZoneChange;
+
+/**
+ * Tests for {@link RachioDeviceDelta}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioDeviceDeltaTest {
+
+    private static RachioZone zone(String id, int zoneNumber) {
+        RachioZone zone = new RachioZone();
+        zone.id = id;
+        zone.zoneNumber = zoneNumber;
+        zone.name = "Zone " + zoneNumber;
+        zone.enabled = true;
+        zone.runtime = 600;
+        zone.soil = "LOAM";
+        return zone;
+    }
+
+    private static RachioDevice device(RachioZone... zones) {
+        RachioDevice device = new RachioDevice();
+        device.id = "device-1";
+        device.name = "Front yard";
+        device.status = "ONLINE";
+        device.serialNumber = "SN123";
+        device.model = "GENERATION3_8ZONE";
+        device.macAddress = "00:11:22:33:44:55";
+        device.zones = new ArrayList<>(List.of(zones));
+        return device;
+    }
+
+    @Test
+    public void newDeviceReportsEveryChange() {
+        RachioDeviceSnapshot current = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+
+        RachioDeviceDelta delta = RachioDeviceDelta.between(null, current);
+
+        assertFalse(delta.isEmpty());
+        assertSame(current, delta.getDevice());
+        assertEquals(EnumSet.allOf(DeviceChange.class), delta.getDeviceChanges());
+        assertEquals(Set.of("z1", "z2"), delta.getZoneChanges().keySet());
+        assertEquals(EnumSet.allOf(ZoneChange.class), delta.getZoneChanges("z1"));
+        assertTrue(delta.has(ZoneChange.ADDED));
+        assertTrue(delta.getRemovedZones().isEmpty());
+    }
+
+    @Test
+    public void unchangedDeviceIsEmpty() {
+        RachioDeviceSnapshot previous = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+        RachioDeviceSnapshot current = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+
+        assertTrue(RachioDeviceDelta.between(previous, current).isEmpty());
+        assertTrue(RachioDeviceDelta.between(current, current).isEmpty());
+    }
+
+    @Test
+    public void reportsChangedFieldsOnly() {
+        RachioDevice changed = device(zone("z1", 1), zone("z2", 2));
+        changed.status = "OFFLINE";
+        changed.zones.get(1).runtime = 900;
+        RachioDeviceSnapshot previous = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+
+        RachioDeviceDelta delta = RachioDeviceDelta.between(previous, RachioDeviceSnapshot.of(changed));
+
+        assertEquals(EnumSet.of(DeviceChange.STATUS), delta.getDeviceChanges());
+        assertEquals(Set.of("z2"), delta.getZoneChanges().keySet());
+        assertEquals(EnumSet.of(ZoneChange.RUNTIME), delta.getZoneChanges("z2"));
+        assertTrue(delta.getZoneChanges("z1").isEmpty());
+    }
+
+    @Test
+    public void reportsAddedZones() {
+        RachioDeviceSnapshot previous = RachioDeviceSnapshot.of(device(zone("z1", 1)));
+        RachioDeviceSnapshot current = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+
+        RachioDeviceDelta delta = RachioDeviceDelta.between(previous, current);
+
+        assertEquals(EnumSet.of(DeviceChange.ZONES), delta.getDeviceChanges());
+        assertEquals(Set.of("z2"), delta.getZoneChanges().keySet());
+        assertTrue(delta.getZoneChanges("z2").contains(ZoneChange.ADDED));
+        assertTrue(delta.getRemovedZones().isEmpty());
+    }
+
+    @Test
+    public void reportsRemovedZones() {
+        RachioDeviceSnapshot previous = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+        RachioDeviceSnapshot current = RachioDeviceSnapshot.of(device(zone("z1", 1)));
+
+        RachioDeviceDelta delta = RachioDeviceDelta.between(previous, current);
+
+        assertEquals(EnumSet.of(DeviceChange.ZONES), delta.getDeviceChanges());
+        assertTrue(delta.getZoneChanges().isEmpty());
+        assertEquals(List.of("z2"), delta.getRemovedZones());
+    }
+
+    @Test
+    public void reportsReplacedZone() {
+        RachioDeviceSnapshot previous = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z2", 2)));
+        RachioDeviceSnapshot current = RachioDeviceSnapshot.of(device(zone("z1", 1), zone("z3", 2)));
+
+        RachioDeviceDelta delta = RachioDeviceDelta.between(previous, current);
+
+        assertTrue(delta.has(DeviceChange.ZONES));
+        assertEquals(List.of("z2"), delta.getRemovedZones());
+        assertEquals(EnumSet.allOf(ZoneChange.class), delta.getZoneChanges("z3"));
+    }
+}
@@ -0,0 +1,100 @@
+package org.openhab.binding.rachio.internal.api.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.rachio.internal.api.dto.RachioForecastSeries.Column;
+
+/**
+ * Tests for {@link RachioForecastSeries}
+ *
+ * @author Damion Boyett - Refactor contribution
+ */
+@NonNullByDefault
+public class RachioForecastSeriesTest {
+
+    private static final long START = 1714543200;
+    private static final long HOUR = RachioForecastSeries.HOURLY_PERIOD;
+
+    private static RachioForecastSeries hourly(long... times) {
+        RachioForecastSeries.Builder builder = new RachioForecastSeries.Builder(HOUR);
+        for (int i = 0; i < times.length; i++) {
+            builder.addRow();
+            if (times[i] != RachioForecastSeries.NO_TIME) {
+                builder.setTime(times[i]);
+            }
+            builder.set(Column.TEMPERATURE, 20 + i);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void indexOfEvenlySpacedRows() {
+        RachioForecastSeries series = hourly(START, START + HOUR, START + 2 * HOUR);
+
+        assertEquals(-1, series.indexOf(START - 1));
+        assertEquals(0, series.indexOf(START));
+        assertEquals(0, series.indexOf(START + HOUR - 1));
+        assertEquals(1, series.indexOf(START + HOUR));
+        assertEquals(2, series.indexOf(START + 3 * HOUR - 1));
+        assertEquals(-1, series.indexOf(START + 3 * HOUR));
+    }
+
+    @Test
+    public void indexOfUnevenlySpacedRows() {
+        // The third hour is missing, so row 2 starts two periods after row 1
+        RachioForecastSeries series = hourly(START, START + HOUR, START + 3 * HOUR);
+
+        assertEquals(-1, series.indexOf(START - 1));
+        assertEquals(0, series.indexOf(START + HOUR - 1));
+        assertEquals(1, series.indexOf(START + HOUR));
+        assertEquals(-1, series.indexOf(START + 2 * HOUR));
+        assertEquals(2, series.indexOf(START + 3 * HOUR));
+        assertEquals(2, series.indexOf(START + 4 * HOUR - 1));
+        assertEquals(-1, series.indexOf(START + 4 * HOUR));
+    }
+
+    @Test
+    public void indexOfSkipsRowsWithoutTime() {
+        RachioForecastSeries series = hourly(START, RachioForecastSeries.NO_TIME, START + 2 * HOUR);
+
+        assertEquals(0, series.indexOf(START));
+        assertEquals(-1, series.indexOf(START + HOUR));
+        assertEquals(2, series.indexOf(START + 2 * HOUR));
+    }
+
+    @Test
+    public void indexOfEmptySeries() {
+        assertEquals(-1, RachioForecastSeries.EMPTY.indexOf(START));
+        assertEquals(-1, hourly().indexOf(START));
+    }
+
+    @Test
+    public void evenAndUnevenLookupsAgree() {
+        RachioForecastSeries even = hourly(START, START + HOUR, START + 2 * HOUR, START + 3 * HOUR);
+        // Same rows with the last one moved, which forces the linear scan
+        RachioForecastSeries uneven = hourly(START, START + HOUR, START + 2 * HOUR, START + 5 * HOUR);
+
+        for (long time = START - HOUR; time < START + 3 * HOUR; time += 600) {
+            assertEquals(even.indexOf(time), uneven.indexOf(time), "time " + time);
+        }
+    }
+
+    @Test
+    public void missingValuesAreNaN() {
+        RachioForecastSeries.Builder builder = new RachioForecastSeries.Builder(HOUR);
+        builder.addRow();
+        builder.setTime(START);
+        builder.addRow();
+        builder.setTime(START + HOUR);
+        builder.set(Column.HUMIDITY, 0.5);
+        RachioForecastSeries series = builder.build();
+
+        assertTrue(series.has(Column.HUMIDITY));
+        assertFalse(series.has(Column.TEMPERATURE));
+        assertTrue(Double.isNaN(series.get(Column.HUMIDITY, 0)));
+        assertEquals(0.5, series.get(Column.HUMIDITY, 1));
+        assertTrue(Double.isNaN(series.get(Column.HUMIDITY, 2)));
+    }
+}